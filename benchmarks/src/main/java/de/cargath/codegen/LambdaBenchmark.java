@@ -0,0 +1,182 @@
+package de.cargath.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the template lambdas registered by {@link SwiftLWGenerator}.
+ *
+ * Fragments are fed from fixed strings and written into a sink that keeps no state,
+ * so {@code -prof gc} reports only what the lambda itself allocates.
+ * {@code splitTitlecase} is the former, string based title-casing for comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LambdaBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private Template.Fragment[] fragments;
+    private Mustache.Lambda titlecase;
+    private Mustache.Lambda splitTitlecase;
+    private Mustache.Lambda camelcase;
+    private Mustache.Lambda lowercase;
+    private Mustache.Lambda uppercase;
+    private Mustache.Lambda indent4;
+    private CountingWriter writer;
+
+    @Setup
+    public void setUp() {
+        Template template = Mustache.compiler().compile("");
+        String[] texts = new SyntheticInputs(42L).fragments(size);
+        fragments = new Template.Fragment[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            fragments[i] = new TextFragment(template, texts[i]);
+        }
+        titlecase = new TitlecaseLambda();
+        splitTitlecase = new SplitTitlecaseLambda(" ");
+        camelcase = new CamelCaseLambda();
+        lowercase = new LowercaseLambda();
+        uppercase = new UppercaseLambda();
+        indent4 = new IndentedLambda(4);
+        writer = new CountingWriter();
+    }
+
+    @Benchmark
+    public void titlecase(Blackhole blackhole) throws IOException {
+        run(titlecase, blackhole);
+    }
+
+    @Benchmark
+    public void splitTitlecase(Blackhole blackhole) throws IOException {
+        run(splitTitlecase, blackhole);
+    }
+
+    @Benchmark
+    public void camelcase(Blackhole blackhole) throws IOException {
+        run(camelcase, blackhole);
+    }
+
+    @Benchmark
+    public void lowercase(Blackhole blackhole) throws IOException {
+        run(lowercase, blackhole);
+    }
+
+    @Benchmark
+    public void uppercase(Blackhole blackhole) throws IOException {
+        run(uppercase, blackhole);
+    }
+
+    @Benchmark
+    public void indent4(Blackhole blackhole) throws IOException {
+        run(indent4, blackhole);
+    }
+
+    private void run(Mustache.Lambda lambda, Blackhole blackhole) throws IOException {
+        for (Template.Fragment fragment : fragments) {
+            lambda.execute(fragment, writer);
+        }
+        blackhole.consume(writer.count);
+    }
+
+    /**
+     * The title-casing lambda as it was before it streamed: renders the fragment into a string,
+     * splits it with a regular expression and upper-cases every word through two substrings.
+     */
+    static class SplitTitlecaseLambda implements Mustache.Lambda {
+        private final String delimiter;
+
+        SplitTitlecaseLambda(String delimiter) {
+            this.delimiter = delimiter;
+        }
+
+        private String titleCase(final String input) {
+            return input.substring(0, 1).toUpperCase() + input.substring(1);
+        }
+
+        @Override
+        public void execute(Template.Fragment fragment, Writer writer) throws IOException {
+            String[] parts = fragment.execute().split("\\Q" + delimiter + "\\E");
+            for (int i = 0; i < parts.length; i++) {
+                writer.write(titleCase(parts[i]));
+                if (i != parts.length - 1) {
+                    writer.write(delimiter);
+                }
+            }
+        }
+    }
+
+    /**
+     * A fragment which always renders the same text.
+     */
+    static class TextFragment extends Template.Fragment {
+        private final String text;
+
+        TextFragment(Template template, String text) {
+            template.super();
+            this.text = text;
+        }
+
+        @Override
+        public Object context() {
+            return null;
+        }
+
+        @Override
+        public void execute(Writer out) {
+            try {
+                out.write(text);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void execute(Object context, Writer out) {
+            execute(out);
+        }
+    }
+
+    /**
+     * A writer which only counts what it is given.
+     */
+    static class CountingWriter extends Writer {
+        long count;
+
+        @Override
+        public void write(int c) {
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.CodegenProperty;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-property naming callbacks of {@link SwiftLWGenerator}.
+ *
+ * Each invocation walks the whole synthetic input set, so one op is one sweep over {@code size} inputs.
+ * The inputs repeat, so with the default {@link NamingCache} most calls are cache hits;
+ * {@code namingCacheSize=0} measures the naming computation itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamingBenchmark {
+
+    @Param({"10000", "50000"})
+    public int size;
+
+    @Param({"10000", "0"})
+    public int namingCacheSize;
+
+    private SwiftLWGenerator generator;
+    private String[] enumValues;
+    private String[] enumDatatypes;
+    private CodegenProperty[] enumProperties;
+    private String[] operationIds;
+
+    @Setup
+    public void setUp() {
+        SyntheticInputs inputs = new SyntheticInputs(42L);
+        generator = new SwiftLWGenerator();
+        generator.setNamingCacheSize(namingCacheSize);
+        enumValues = inputs.enumValues(size);
+        enumDatatypes = inputs.enumDatatypes(size);
+        enumProperties = inputs.enumProperties(size);
+        operationIds = inputs.operationIds(size);
+    }
+
+    @Benchmark
+    public void toEnumVarName(Blackhole blackhole) {
+        for (int i = 0; i < enumValues.length; i++) {
+            blackhole.consume(generator.toEnumVarName(enumValues[i], enumDatatypes[i]));
+        }
+    }
+
+    @Benchmark
+    public void toEnumName(Blackhole blackhole) {
+        for (CodegenProperty property : enumProperties) {
+            blackhole.consume(generator.toEnumName(property));
+        }
+    }
+
+    @Benchmark
+    public void toOperationId(Blackhole blackhole) {
+        for (String operationId : operationIds) {
+            blackhole.consume(generator.toOperationId(operationId));
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.CodegenProperty;
+import io.swagger.models.properties.*;
+
+import java.util.Random;
+
+/**
+ * Builds deterministic inputs shaped like the enum values, properties and operation ids
+ * found in large enterprise specs. Every benchmark seeds its own instance, so results
+ * can be compared between releases.
+ */
+final class SyntheticInputs {
+
+    private static final String[] ENUM_VALUE_SHAPES = {
+        "ACTIVE", "in_progress", "Pending", "2FA_REQUIRED", "$", "#", "-1", "1.5", "+49",
+        "EUR", "some value", "ns:item(%d)", "CamelCase%d", "snake_case_%d", "kebab-case-%d", "%d"
+    };
+
+    private static final String[] ENUM_DATATYPES = {
+        "String", "String", "String", "Int", "Int64", "Double"
+    };
+
+    private static final String[] PROPERTY_NAMES = {
+        "status", "currency", "country", "type", "kind", "state", "category", "unit"
+    };
+
+    private static final String[] OPERATION_IDS = {
+        "getPet%d", "list_orders_%d", "find-users-by-status-%d", "Update Member %d", "return", "delete%dItems"
+    };
+
+    private final Random random;
+
+    SyntheticInputs(long seed) {
+        this.random = new Random(seed);
+    }
+
+    String[] enumValues(int size) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = String.format(ENUM_VALUE_SHAPES[random.nextInt(ENUM_VALUE_SHAPES.length)], random.nextInt(size));
+        }
+        return values;
+    }
+
+    String[] enumDatatypes(int size) {
+        String[] datatypes = new String[size];
+        for (int i = 0; i < size; i++) {
+            datatypes[i] = ENUM_DATATYPES[random.nextInt(ENUM_DATATYPES.length)];
+        }
+        return datatypes;
+    }
+
+    /**
+     * Enum properties repeat their names across models, like the status/currency enums of real specs.
+     */
+    CodegenProperty[] enumProperties(int size) {
+        CodegenProperty[] properties = new CodegenProperty[size];
+        for (int i = 0; i < size; i++) {
+            CodegenProperty property = new CodegenProperty();
+            property.name = PROPERTY_NAMES[random.nextInt(PROPERTY_NAMES.length)] + (random.nextInt(4) == 0 ? "" : random.nextInt(size / 10 + 1));
+            property.baseName = property.name;
+            property.datatype = "String";
+            property.datatypeWithEnum = Character.toUpperCase(property.name.charAt(0)) + property.name.substring(1);
+            property.isEnum = true;
+            properties[i] = property;
+        }
+        return properties;
+    }
+
+    String[] operationIds(int size) {
+        String[] operationIds = new String[size];
+        for (int i = 0; i < size; i++) {
+            operationIds[i] = String.format(OPERATION_IDS[random.nextInt(OPERATION_IDS.length)], random.nextInt(size));
+        }
+        return operationIds;
+    }
+
+    Property[] properties(int size) {
+        Property[] properties = new Property[size];
+        for (int i = 0; i < size; i++) {
+            properties[i] = property(random.nextInt(10), size);
+        }
+        return properties;
+    }
+
+    private Property property(int shape, int size) {
+        switch (shape) {
+            case 0: return new StringProperty();
+            case 1: return new IntegerProperty();
+            case 2: return new LongProperty();
+            case 3: return new DoubleProperty();
+            case 4: return new BooleanProperty();
+            case 5: return new DateTimeProperty();
+            case 6: return new RefProperty("#/definitions/Model" + random.nextInt(size));
+            case 7: return new ArrayProperty(new RefProperty("#/definitions/Model" + random.nextInt(size)));
+            case 8: return new MapProperty(new StringProperty());
+            default: return new ArrayProperty(new ArrayProperty(new DoubleProperty()));
+        }
+    }
+
+    String[] fragments(int size) {
+        String[] fragments = new String[size];
+        for (int i = 0; i < size; i++) {
+            fragments[i] = String.format(OPERATION_IDS[random.nextInt(OPERATION_IDS.length)], random.nextInt(size));
+        }
+        return fragments;
+    }
+
+}
@@ -0,0 +1,54 @@
+package de.cargath.codegen;
+
+import io.swagger.models.properties.Property;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-property type mapping callbacks of {@link SwiftLWGenerator}.
+ *
+ * Type mapping is not memoized, so both {@code namingCacheSize} variants should perform the same;
+ * a gap between them means the type mapping started going through a {@link NamingCache}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeMappingBenchmark {
+
+    @Param({"10000", "50000"})
+    public int size;
+
+    @Param({"10000", "0"})
+    public int namingCacheSize;
+
+    private SwiftLWGenerator generator;
+    private Property[] properties;
+
+    @Setup
+    public void setUp() {
+        generator = new SwiftLWGenerator();
+        generator.setNamingCacheSize(namingCacheSize);
+        properties = new SyntheticInputs(42L).properties(size);
+    }
+
+    @Benchmark
+    public void getSwaggerType(Blackhole blackhole) {
+        for (Property property : properties) {
+            blackhole.consume(generator.getSwaggerType(property));
+        }
+    }
+
+    @Benchmark
+    public void getTypeDeclaration(Blackhole blackhole) {
+        for (Property property : properties) {
+            blackhole.consume(generator.getTypeDeclaration(property));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+#
+# Compares the swiftc build time of a generated client across shard counts.
+#
+# Generates the client once per shard count (modelShards and operationShards set to the same value,
+# 0 being the layout with a file per model and per tag) and compiles it as a library, in debug batch
+# mode like an Xcode debug build and with whole-module optimization.
+#
+# Usage: benchmarks/swiftc-shards.sh <swagger-codegen-cli.jar> <generator.jar> <spec> [shard counts...]
+#
+# Needs a Swift toolchain on the PATH (or in SWIFTC). Without one, only the generation is timed.
+# On Linux, URLSession lives in FoundationNetworking, which is re-exported to the generated module.
+# Exits non-zero if a generation or compilation fails.
+
+set -euo pipefail
+
+if [ $# -lt 3 ]; then
+    sed -n '3,13p' "$0" | sed 's/^# \{0,1\}//'
+    exit 1
+fi
+
+CLI_JAR=$1
+GENERATOR_JAR=$2
+SPEC=$3
+shift 3
+COUNTS=${*:-0 1 4 16 64}
+
+SWIFTC=${SWIFTC:-$(command -v swiftc || true)}
+JOBS=${JOBS:-$(getconf _NPROCESSORS_ONLN 2>/dev/null || echo 4)}
+PROJECT=Network
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+STATUS=0
+
+if [ -z "$SWIFTC" ]; then
+    echo "swiftc not found, only timing the generation" >&2
+fi
+
+seconds() {
+    local start=$1
+    awk -v start="$start" -v end="$(date +%s%N)" 'BEGIN { printf "%.2f", (end - start) / 1e9 }'
+}
+
+compile() {
+    local sources=$1 output=$2
+    shift 2
+    local start
+    start=$(date +%s%N)
+    if find "$sources" -name '*.swift' -print0 | xargs -0 "$SWIFTC" -parse-as-library -emit-library \
+            -module-name "$PROJECT" -o "$output" -j "$JOBS" "$@" > "$output.log" 2>&1; then
+        seconds "$start"
+    else
+        tail -n 20 "$output.log" >&2
+        echo failed
+    fi
+}
+
+printf '%-8s %8s %10s %12s %12s\n' shards files generate "swiftc -Onone" "swiftc -wmo"
+for count in $COUNTS; do
+    out=$WORK/shards-$count
+    start=$(date +%s%N)
+    sources=$out/$PROJECT/Source
+    if ! java -cp "$CLI_JAR:$GENERATOR_JAR" io.swagger.codegen.SwaggerCodegen generate -l swiftLW -i "$SPEC" -o "$out" \
+            --additional-properties "projectName=$PROJECT,modelShards=$count,operationShards=$count" > "$out.log" 2>&1 \
+            || [ ! -d "$sources" ]; then
+        tail -n 20 "$out.log" >&2
+        echo "generation failed for $count shards" >&2
+        exit 1
+    fi
+    generate=$(seconds "$start")
+
+    files=$(find "$sources" -name '*.swift' | wc -l)
+    debug=-
+    wmo=-
+    if [ -n "$SWIFTC" ]; then
+        if [ "$(uname)" = Linux ]; then
+            printf '#if canImport(FoundationNetworking)\n@_exported import FoundationNetworking\n#endif\n' > "$sources/FoundationNetworking.swift"
+        fi
+        debug=$(compile "$sources" "$WORK/debug-$count" -Onone)
+        wmo=$(compile "$sources" "$WORK/wmo-$count" -O -wmo)
+        if [ "$debug" = failed ] || [ "$wmo" = failed ]; then
+            STATUS=1
+        fi
+    fi
+    printf '%-8s %8s %10s %12s %12s\n' "$count" "$files" "$generate" "$debug" "$wmo"
+done
+exit $STATUS
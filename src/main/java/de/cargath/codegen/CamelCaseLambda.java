@@ -0,0 +1,49 @@
+package de.cargath.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Converts text in a fragment to lower camel case.
+ *
+ * Register:
+ * <pre>
+ * additionalProperties.put("camelcase", new CamelCaseLambda());
+ * </pre>
+ *
+ * Use:
+ * <pre>
+ * {{#camelcase}}{{baseName}}{{/camelcase}}
+ * </pre>
+ *
+ * Characters other than letters and digits separate words and are dropped, every word but the first one
+ * starts with an upper-case letter, and the first character is lower-cased,
+ * e.g. {@code pet_store-name} becomes {@code petStoreName}.
+ */
+class CamelCaseLambda extends StreamingLambda {
+
+    @Override
+    protected Filter filter(Writer out) {
+        return new Filter(out) {
+            private boolean first = true;
+            private boolean wordStart = false;
+
+            @Override
+            protected void filter(char c) throws IOException {
+                if (!Character.isLetterOrDigit(c)) {
+                    wordStart = !first;
+                    return;
+                }
+                if (first) {
+                    out.write(Character.toLowerCase(c));
+                    first = false;
+                } else if (wordStart) {
+                    out.write(Character.toUpperCase(c));
+                } else {
+                    out.write(c);
+                }
+                wordStart = false;
+            }
+        };
+    }
+}
@@ -0,0 +1,225 @@
+package de.cargath.codegen;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.samskivert.mustache.Mustache;
+
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenResponse;
+import io.swagger.util.Json;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes a SHA-256 fingerprint of everything a generated file depends on:
+ * the generator code, the template and its partials, and those entries of the template data
+ * which the template actually refers to.
+ *
+ * Only referring to the entries a template uses keeps e.g. a changed model from invalidating
+ * supporting files which never look at the models.
+ */
+final class Fingerprinter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Fingerprinter.class);
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final SwiftLWGenerator generator;
+    private final ObjectMapper mapper;
+    private final ObjectMapper mapperWithoutExamples;
+    private final Map<String, TemplateInfo> templates = new HashMap<String, TemplateInfo>();
+
+    private String generatorFingerprint;
+
+    Fingerprinter(SwiftLWGenerator generator) {
+        this.generator = generator;
+        this.mapper = Json.mapper().copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .addMixIn(CodegenModel.class, ModelLinksMixIn.class);
+        this.mapperWithoutExamples = mapper.copy()
+            .addMixIn(CodegenOperation.class, ExamplesMixIn.class)
+            .addMixIn(CodegenResponse.class, ExamplesMixIn.class);
+    }
+
+    /**
+     * @return the fingerprint, or {@code null} if the inputs could not be fingerprinted and the file has to be generated.
+     */
+    String fingerprint(OutputFile output) {
+        try {
+            TemplateInfo template = template(output.templateName);
+            ObjectMapper mapper = template.referencesAll || template.names.contains("examples")
+                || template.names.contains("requestBodyExamples") ? this.mapper : mapperWithoutExamples;
+            MessageDigest digest = sha256();
+            update(digest, generatorFingerprint());
+            update(digest, template.fingerprint);
+            for (String key : new TreeSet<String>(output.data.keySet())) {
+                Object value = output.data.get(key);
+                if (value instanceof Mustache.Lambda || !(template.referencesAll || template.names.contains(key))) {
+                    continue;
+                }
+                update(digest, key);
+                digest.update(mapper.writeValueAsBytes(value));
+            }
+            return hex(digest.digest());
+        } catch (JsonProcessingException e) {
+            LOGGER.debug("Could not fingerprint " + output, e);
+            return null;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not fingerprint " + output, e);
+            return null;
+        }
+    }
+
+    private synchronized TemplateInfo template(String templateName) {
+        TemplateInfo template = templates.get(templateName);
+        if (template == null) {
+            template = new TemplateInfo();
+            MessageDigest digest = sha256();
+            collect(templateName, digest, template, new HashSet<String>());
+            template.fingerprint = hex(digest.digest());
+            templates.put(templateName, template);
+        }
+        return template;
+    }
+
+    private void collect(String templateName, MessageDigest digest, TemplateInfo template, Set<String> visited) {
+        if (!visited.add(templateName)) {
+            return;
+        }
+        String source = generator.readTemplateSource(templateName);
+        update(digest, templateName);
+        update(digest, source);
+
+        int start = source.indexOf("{{");
+        while (start >= 0) {
+            boolean triple = source.startsWith("{{{", start);
+            int end = source.indexOf(triple ? "}}}" : "}}", start);
+            if (end < 0) {
+                break;
+            }
+            String tag = source.substring(start + (triple ? 3 : 2), end).trim();
+            char sigil = tag.isEmpty() ? ' ' : tag.charAt(0);
+            if (sigil == '=') {
+                // changed delimiters are not tracked, so assume everything is used
+                template.referencesAll = true;
+            } else if (sigil == '>') {
+                collect(tag.substring(1).trim() + ".mustache", digest, template, visited);
+            } else if (sigil != '!' && sigil != '/') {
+                String name = "#^&".indexOf(sigil) >= 0 ? tag.substring(1).trim() : tag;
+                int dot = name.indexOf('.');
+                template.names.add(dot > 0 ? name.substring(0, dot) : name);
+            }
+            start = source.indexOf("{{", end);
+        }
+    }
+
+    /**
+     * The generator code is part of every fingerprint, so updating the plugin regenerates everything.
+     */
+    private synchronized String generatorFingerprint() {
+        if (generatorFingerprint == null) {
+            MessageDigest digest = sha256();
+            update(digest, generator.getClass().getName());
+            update(digest, generator.templateDir());
+            fingerprintCodeSource(digest, generator.getClass());
+            fingerprintCodeSource(digest, CodegenConfig.class);
+            generatorFingerprint = hex(digest.digest());
+        }
+        return generatorFingerprint;
+    }
+
+    private static void fingerprintCodeSource(MessageDigest digest, Class<?> type) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource == null || !"file".equals(codeSource.getLocation().getProtocol())) {
+            return;
+        }
+        try {
+            fingerprintFile(digest, new File(codeSource.getLocation().toURI()));
+        } catch (Exception e) {
+            update(digest, codeSource.getLocation().toString());
+        }
+    }
+
+    private static void fingerprintFile(MessageDigest digest, File file) throws IOException {
+        if (file.isDirectory()) {
+            String[] children = file.list();
+            Arrays.sort(children);
+            for (String child : children) {
+                fingerprintFile(digest, new File(file, child));
+            }
+            return;
+        }
+        update(digest, file.getName());
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    private static final class TemplateInfo {
+        String fingerprint;
+        boolean referencesAll;
+        final Set<String> names = new HashSet<String>();
+    }
+
+    /**
+     * Links between models point back and forth and are covered by the linked models themselves.
+     */
+    @JsonIgnoreProperties({"parentModel", "interfaceModels", "children"})
+    private abstract static class ModelLinksMixIn {
+    }
+
+    /**
+     * Examples are derived from the request and response models, so they would tie every operation to its models.
+     */
+    @JsonIgnoreProperties({"examples", "requestBodyExamples"})
+    private abstract static class ExamplesMixIn {
+    }
+
+}
@@ -0,0 +1,152 @@
+package de.cargath.codegen;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records a fingerprint of the inputs of every generated file, so unchanged files can be skipped
+ * on the next run.
+ *
+ * The manifest is stored as {@code .swiftlw-manifest} in the output folder, one
+ * {@code <fingerprint>  <relative path>} line per file, sorted by path.
+ */
+final class GenerationManifest {
+
+    public static final String FILE_NAME = ".swiftlw-manifest";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationManifest.class);
+
+    private final File outputFolder;
+    private final Map<String, String> previous = new TreeMap<String, String>();
+    private final Map<String, String> current = new TreeMap<String, String>();
+
+    private GenerationManifest(File outputFolder) {
+        this.outputFolder = outputFolder;
+    }
+
+    /**
+     * Reads the manifest of the previous run, if there is one.
+     */
+    static GenerationManifest load(File outputFolder) {
+        GenerationManifest manifest = new GenerationManifest(outputFolder);
+        File file = new File(outputFolder, FILE_NAME);
+        if (!file.isFile()) {
+            return manifest;
+        }
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf("  ");
+                if (separator > 0) {
+                    manifest.previous.put(line.substring(separator + 2), line.substring(0, separator));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read " + file + ", regenerating all files", e);
+            manifest.previous.clear();
+        } finally {
+            closeQuietly(reader);
+        }
+        return manifest;
+    }
+
+    /**
+     * Records the fingerprint of a file generated (or kept) by this run.
+     *
+     * @return whether the previous run generated the file from the same inputs and it still exists.
+     */
+    synchronized boolean record(String filename, String fingerprint) {
+        String path = relativePath(filename);
+        if (fingerprint == null) {
+            current.remove(path);
+            return false;
+        }
+        current.put(path, fingerprint);
+        return fingerprint.equals(previous.get(path)) && new File(outputFolder, path).isFile();
+    }
+
+    /**
+     * Keeps the entries of the previous run which were not recorded by this one,
+     * e.g. when only some of the models or APIs were selected.
+     */
+    synchronized void retainPrevious() {
+        for (Map.Entry<String, String> entry : previous.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                current.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Deletes the files the previous run generated but this one did not, e.g. for removed models or tags.
+     *
+     * @return the deleted files.
+     */
+    synchronized List<File> deleteStale() {
+        List<File> deleted = new ArrayList<File>();
+        for (String path : previous.keySet()) {
+            if (current.containsKey(path)) {
+                continue;
+            }
+            File file = new File(outputFolder, path);
+            if (file.isFile() && file.delete()) {
+                LOGGER.info("deleted stale file " + file);
+                deleted.add(file);
+            }
+        }
+        return deleted;
+    }
+
+    synchronized void save() throws IOException {
+        File file = new File(outputFolder, FILE_NAME);
+        if (!outputFolder.isDirectory()) {
+            outputFolder.mkdirs();
+        }
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try {
+            for (Map.Entry<String, String> entry : current.entrySet()) {
+                writer.write(entry.getValue());
+                writer.write("  ");
+                writer.write(entry.getKey());
+                writer.write('\n');
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private String relativePath(String filename) {
+        String folder = outputFolder.getAbsoluteFile().toURI().normalize().getPath();
+        if (!folder.endsWith("/")) {
+            folder += "/";
+        }
+        String path = new File(filename).getAbsoluteFile().toURI().normalize().getPath();
+        return path.startsWith(folder) ? path.substring(folder.length()) : path;
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+}
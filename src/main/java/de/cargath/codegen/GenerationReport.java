@@ -0,0 +1,203 @@
+package de.cargath.codegen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records where the time and memory of a run go, and writes them as {@code .swiftlw-report.json}
+ * to the output folder.
+ *
+ * Stages are consecutive and add up to the whole run, they end whenever the next stage starts.
+ * Hooks and templates are timed wherever they run, so nested hooks (e.g. {@code postProcessModelsEnum}
+ * within {@code postProcessModels}) and templates rendered on several threads add up to more than the wall time.
+ */
+final class GenerationReport {
+
+    public static final String FILE_NAME = ".swiftlw-report.json";
+
+    private final long startNanos;
+    private final long gcCountAtStart;
+    private final long gcMillisAtStart;
+
+    private final List<Map<String, Object>> stages = new ArrayList<Map<String, Object>>();
+    private String stage;
+    private long stageStartNanos;
+
+    private final Map<String, long[]> hooks = new LinkedHashMap<String, long[]>();
+    private final Map<String, long[]> templates = new TreeMap<String, long[]>();
+    private long filesWritten;
+    private long filesUnchanged;
+    private long bytesWritten;
+
+    /**
+     * @param startNanos when the run started, the first stage is timed from there.
+     * @param firstStage name of the stage running until the first call of {@link #stage(String)}.
+     */
+    GenerationReport(long startNanos, String firstStage) {
+        this.startNanos = startNanos;
+        this.stage = firstStage;
+        this.stageStartNanos = startNanos;
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        this.gcCountAtStart = gcCount;
+        this.gcMillisAtStart = gcMillis;
+        // peaks of this run only, the heap already in use shows in the first stage
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Ends the current stage and starts the next one, unless it is already running.
+     */
+    synchronized void stage(String name) {
+        if (name.equals(stage)) {
+            return;
+        }
+        endStage(System.nanoTime());
+        stage = name;
+        stageStartNanos = System.nanoTime();
+    }
+
+    private void endStage(long now) {
+        Map<String, Object> entry = new LinkedHashMap<String, Object>();
+        entry.put("name", stage);
+        entry.put("millis", millis(now - stageStartNanos));
+        entry.put("heapUsedBytes", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        stages.add(entry);
+    }
+
+    /**
+     * Adds a call of a generator hook.
+     *
+     * @param startNanos {@link System#nanoTime()} when the hook was called.
+     */
+    synchronized void hook(String name, long startNanos) {
+        long[] totals = hooks.get(name);
+        if (totals == null) {
+            totals = new long[2];
+            hooks.put(name, totals);
+        }
+        totals[0]++;
+        totals[1] += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Adds a file rendered from a template and written.
+     */
+    synchronized void rendered(String templateName, long renderNanos, long writeNanos, long bytes) {
+        long[] totals = templates.get(templateName);
+        if (totals == null) {
+            totals = new long[4];
+            templates.put(templateName, totals);
+        }
+        totals[0]++;
+        totals[1] += renderNanos;
+        totals[2] += writeNanos;
+        totals[3] += bytes;
+        filesWritten++;
+        bytesWritten += bytes;
+    }
+
+    /**
+     * Adds a file which was kept because its inputs did not change.
+     */
+    synchronized void unchanged() {
+        filesUnchanged++;
+    }
+
+    /**
+     * Ends the last stage and writes the report.
+     *
+     * @return the report file.
+     */
+    synchronized File write(File outputFolder, Map<String, Object> options) throws IOException {
+        long now = System.nanoTime();
+        endStage(now);
+
+        Map<String, Object> report = new LinkedHashMap<String, Object>();
+        report.put("options", options);
+        report.put("totalMillis", millis(now - startNanos));
+        report.put("stages", stages);
+
+        Map<String, Object> hookTotals = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, long[]> hook : hooks.entrySet()) {
+            Map<String, Object> entry = new LinkedHashMap<String, Object>();
+            entry.put("calls", hook.getValue()[0]);
+            entry.put("millis", millis(hook.getValue()[1]));
+            hookTotals.put(hook.getKey(), entry);
+        }
+        report.put("hooks", hookTotals);
+
+        Map<String, Object> templateTotals = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, long[]> template : templates.entrySet()) {
+            long[] totals = template.getValue();
+            Map<String, Object> entry = new LinkedHashMap<String, Object>();
+            entry.put("files", totals[0]);
+            entry.put("renderMillis", millis(totals[1]));
+            entry.put("writeMillis", millis(totals[2]));
+            entry.put("bytes", totals[3]);
+            templateTotals.put(template.getKey(), entry);
+        }
+        report.put("templates", templateTotals);
+
+        Map<String, Object> files = new LinkedHashMap<String, Object>();
+        files.put("written", filesWritten);
+        files.put("unchanged", filesUnchanged);
+        files.put("bytes", bytesWritten);
+        report.put("files", files);
+
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid() && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        Map<String, Object> heap = new LinkedHashMap<String, Object>();
+        // the pools peak at different times, so their sum is an upper bound
+        heap.put("peakBytes", peak);
+        heap.put("maxBytes", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax());
+        report.put("heap", heap);
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        Map<String, Object> gc = new LinkedHashMap<String, Object>();
+        gc.put("collections", gcCount - gcCountAtStart);
+        gc.put("millis", gcMillis - gcMillisAtStart);
+        report.put("gc", gc);
+
+        if (!outputFolder.isDirectory()) {
+            outputFolder.mkdirs();
+        }
+        File file = new File(outputFolder, FILE_NAME);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        return file;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+}
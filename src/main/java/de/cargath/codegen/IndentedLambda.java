@@ -0,0 +1,55 @@
+package de.cargath.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Indents every line of a fragment but the first one, which is indented by the template itself.
+ *
+ * Register:
+ * <pre>
+ * additionalProperties.put("indent4", new IndentedLambda(4));
+ * </pre>
+ *
+ * Use:
+ * <pre>
+ *     {{#indent4}}{{{description}}}{{/indent4}}
+ * </pre>
+ *
+ * Empty lines are not indented, so the output has no trailing whitespace. Line endings are kept as they are.
+ */
+class IndentedLambda extends StreamingLambda {
+    private final int spaces;
+
+    /**
+     * Constructs a new instance of {@link IndentedLambda}, which indents lines by the given number of spaces.
+     *
+     * @param spaces The number of spaces to prefix every line but the first one with.
+     */
+    public IndentedLambda(int spaces) {
+        if (spaces < 0) {
+            throw new IllegalArgumentException("Indentation must not be negative: " + spaces);
+        }
+        this.spaces = spaces;
+    }
+
+    @Override
+    protected Filter filter(Writer out) {
+        return new Filter(out) {
+            private boolean lineStart = false;
+
+            @Override
+            protected void filter(char c) throws IOException {
+                if (c == '\n') {
+                    lineStart = true;
+                } else if (lineStart && c != '\r') {
+                    for (int i = 0; i < spaces; i++) {
+                        out.write(' ');
+                    }
+                    lineStart = false;
+                }
+                out.write(c);
+            }
+        };
+    }
+}
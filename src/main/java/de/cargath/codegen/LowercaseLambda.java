@@ -0,0 +1,30 @@
+package de.cargath.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Converts all of the characters in a fragment to lower case.
+ *
+ * Register:
+ * <pre>
+ * additionalProperties.put("lowercase", new LowercaseLambda());
+ * </pre>
+ *
+ * Use:
+ * <pre>
+ * {{#lowercase}}{{httpMethod}}{{/lowercase}}
+ * </pre>
+ */
+class LowercaseLambda extends StreamingLambda {
+
+    @Override
+    protected Filter filter(Writer out) {
+        return new Filter(out) {
+            @Override
+            protected void filter(char c) throws IOException {
+                out.write(Character.toLowerCase(c));
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package de.cargath.codegen;
+
+import io.swagger.models.*;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.models.parameters.RefParameter;
+import io.swagger.models.parameters.SerializableParameter;
+import io.swagger.models.properties.*;
+
+import java.util.*;
+
+/**
+ * Computes the definitions of a spec reachable from a set of operations: the models of their parameters
+ * and responses, and transitively the models of the properties, array items, {@code additionalProperties}
+ * and {@code allOf} parts of those models.
+ *
+ * Inline enums and inline objects belong to the model they are declared in, so they are kept along with it.
+ * The walk only follows the Swagger model, before any code is generated for it.
+ */
+final class ModelReachability {
+
+    private final Swagger swagger;
+    private final Set<String> reachable = new TreeSet<String>();
+    private final Deque<String> pending = new ArrayDeque<String>();
+
+    ModelReachability(Swagger swagger) {
+        this.swagger = swagger;
+    }
+
+    /**
+     * Adds the models used by an operation, together with the parameters shared by its path.
+     */
+    ModelReachability addOperation(Path path, Operation operation) {
+        if (path.getParameters() != null) {
+            for (Parameter parameter : path.getParameters()) {
+                addParameter(parameter);
+            }
+        }
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                addParameter(parameter);
+            }
+        }
+        if (operation.getResponses() != null) {
+            for (Response response : operation.getResponses().values()) {
+                addProperty(response.getSchema());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the names of the reachable definitions, sorted.
+     */
+    Set<String> reachable() {
+        Map<String, Model> definitions = swagger.getDefinitions();
+        while (!pending.isEmpty()) {
+            Model model = definitions == null ? null : definitions.get(pending.pop());
+            addModel(model);
+        }
+        return reachable;
+    }
+
+    private void addParameter(Parameter parameter) {
+        if (parameter instanceof RefParameter) {
+            Map<String, Parameter> parameters = swagger.getParameters();
+            Parameter resolved = parameters == null ? null : parameters.get(((RefParameter) parameter).getSimpleRef());
+            if (resolved != null && !(resolved instanceof RefParameter)) {
+                addParameter(resolved);
+            }
+        } else if (parameter instanceof BodyParameter) {
+            addModel(((BodyParameter) parameter).getSchema());
+        } else if (parameter instanceof SerializableParameter) {
+            addProperty(((SerializableParameter) parameter).getItems());
+        }
+    }
+
+    private void addModel(Model model) {
+        if (model instanceof RefModel) {
+            addDefinition(((RefModel) model).getSimpleRef());
+        } else if (model instanceof ArrayModel) {
+            addProperty(((ArrayModel) model).getItems());
+        } else if (model instanceof ComposedModel) {
+            ComposedModel composed = (ComposedModel) model;
+            if (composed.getAllOf() != null) {
+                for (Model part : composed.getAllOf()) {
+                    addModel(part);
+                }
+            }
+            if (composed.getInterfaces() != null) {
+                for (RefModel part : composed.getInterfaces()) {
+                    addModel(part);
+                }
+            }
+            addModel(composed.getParent());
+            addModel(composed.getChild());
+        } else if (model instanceof ModelImpl) {
+            ModelImpl impl = (ModelImpl) model;
+            addProperties(impl.getProperties());
+            addProperty(impl.getAdditionalProperties());
+        } else if (model != null) {
+            addProperties(model.getProperties());
+        }
+    }
+
+    private void addProperties(Map<String, Property> properties) {
+        if (properties != null) {
+            for (Property property : properties.values()) {
+                addProperty(property);
+            }
+        }
+    }
+
+    private void addProperty(Property property) {
+        if (property instanceof RefProperty) {
+            addDefinition(((RefProperty) property).getSimpleRef());
+        } else if (property instanceof ArrayProperty) {
+            addProperty(((ArrayProperty) property).getItems());
+        } else if (property instanceof MapProperty) {
+            addProperty(((MapProperty) property).getAdditionalProperties());
+        } else if (property instanceof ObjectProperty) {
+            addProperties(((ObjectProperty) property).getProperties());
+        }
+    }
+
+    private void addDefinition(String name) {
+        if (name != null && reachable.add(name)) {
+            pending.push(name);
+        }
+    }
+
+}
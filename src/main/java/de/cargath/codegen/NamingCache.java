@@ -0,0 +1,117 @@
+package de.cargath.codegen;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded memo for naming callbacks, keyed by (name, datatype).
+ *
+ * Specs repeat the same enum values, property names and operation ids across many models,
+ * so the generator only has to compute each identifier once. The least recently used entry
+ * is evicted once the cache is full. A maximum size of {@code 0} disables caching.
+ *
+ * Use:
+ * <pre>
+ * String cached = cache.get(name, datatype);
+ * if (cached == null) {
+ *     cached = cache.put(name, datatype, compute(name, datatype));
+ * }
+ * </pre>
+ */
+final class NamingCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final int maxSize;
+    private final Map<Key, String> entries;
+
+    private long hits;
+    private long misses;
+
+    NamingCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                return size() > NamingCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the cached identifier, or {@code null} if it has not been computed yet.
+     */
+    synchronized String get(String name, String datatype) {
+        String value = maxSize > 0 ? entries.get(new Key(name, datatype)) : null;
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    /**
+     * @return the given identifier, to allow for {@code return cache.put(...)}.
+     */
+    synchronized String put(String name, String datatype, String value) {
+        if (maxSize > 0) {
+            entries.put(new Key(name, datatype), value);
+        }
+        return value;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long hits() {
+        return hits;
+    }
+
+    synchronized long misses() {
+        return misses;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return hits + " hits, " + misses + " misses, " + entries.size() + "/" + maxSize + " entries";
+    }
+
+    private static final class Key {
+        private final String name;
+        private final String datatype;
+        private final int hash;
+
+        Key(String name, String datatype) {
+            this.name = name;
+            this.datatype = datatype;
+            this.hash = 31 * (name == null ? 0 : name.hashCode()) + (datatype == null ? 0 : datatype.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return (name == null ? other.name == null : name.equals(other.name))
+                && (datatype == null ? other.datatype == null : datatype.equals(other.datatype));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package de.cargath.codegen;
+
+import java.util.Map;
+
+/**
+ * A file the generator is about to write: the template it is rendered from and the data it is rendered with.
+ *
+ * The data map is the one {@link io.swagger.codegen.DefaultGenerator} passes to the template engine,
+ * so it is complete by the time {@link SwiftLWGenerator#shouldOverwrite(String)} is asked about the file.
+ */
+final class OutputFile {
+
+    enum Kind {
+        MODEL, API, SUPPORTING
+    }
+
+    final Kind kind;
+    final String filename;
+    final String templateName;
+    final Map<String, Object> data;
+
+    OutputFile(Kind kind, String filename, String templateName, Map<String, Object> data) {
+        this.kind = kind;
+        this.filename = filename;
+        this.templateName = templateName;
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return filename + " (" + templateName + ")";
+    }
+
+}
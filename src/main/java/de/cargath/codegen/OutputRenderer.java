@@ -0,0 +1,157 @@
+package de.cargath.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Renders and writes files on behalf of {@link io.swagger.codegen.DefaultGenerator}, either right away
+ * or on a fork-join pool.
+ *
+ * Files are rendered exactly like {@code DefaultGenerator#processTemplateToFile} does it,
+ * so the output is byte-identical no matter which thread wrote it.
+ */
+final class OutputRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutputRenderer.class);
+
+    private final SwiftLWGenerator generator;
+    private final int parallelism;
+    private final List<Submission> submissions = new ArrayList<Submission>();
+
+    private final CodegenIgnoreProcessor ignoreProcessor;
+    private final Mustache.Compiler compiler;
+
+    private ForkJoinPool pool;
+
+    OutputRenderer(SwiftLWGenerator generator, int parallelism) {
+        this.generator = generator;
+        this.parallelism = parallelism;
+
+        // same rules as DefaultGenerator#opts
+        String ignoreFileLocation = generator.getIgnoreFilePathOverride();
+        File ignoreFile = ignoreFileLocation == null ? null : new File(ignoreFileLocation);
+        if (ignoreFile != null && ignoreFile.exists() && ignoreFile.canRead()) {
+            this.ignoreProcessor = new CodegenIgnoreProcessor(ignoreFile);
+        } else {
+            this.ignoreProcessor = new CodegenIgnoreProcessor(generator.getOutputDir());
+        }
+
+        // same chain as DefaultGenerator#processTemplateToFile, compiled templates and partials are cached by the generator
+        this.compiler = generator.processCompiler(Mustache.compiler())
+            .defaultValue("");
+    }
+
+    /**
+     * Renders a file on the pool. Failures are reported by {@link #await()}.
+     */
+    synchronized void submit(final OutputFile output) {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism);
+        }
+        Future<File> future = pool.submit(new Callable<File>() {
+            @Override
+            public File call() throws IOException {
+                return render(output);
+            }
+        });
+        submissions.add(new Submission(output, future));
+    }
+
+    /**
+     * Waits until all submitted files are written.
+     *
+     * @return the written files.
+     */
+    List<File> await() {
+        List<Submission> pending;
+        synchronized (this) {
+            pending = new ArrayList<Submission>(submissions);
+            submissions.clear();
+        }
+        List<File> files = new ArrayList<File>();
+        for (Submission submission : pending) {
+            try {
+                File written = submission.future.get();
+                if (written != null) {
+                    files.add(written);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while generating " + submission.output.filename, e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Could not generate " + submission.output.filename, e.getCause());
+            }
+        }
+        return files;
+    }
+
+    synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * Renders and writes a file on the calling thread.
+     *
+     * @return the written file, or {@code null} if it is excluded by {@code .swagger-codegen-ignore}.
+     */
+    File render(OutputFile output) throws IOException {
+        File file = new File(output.filename.replaceAll("//", "/").replace('/', File.separatorChar));
+        if (!ignoreProcessor.allowsFile(file)) {
+            LOGGER.info("Skipped generation of " + file + " due to rule in .swagger-codegen-ignore");
+            return null;
+        }
+
+        long start = System.nanoTime();
+        Template template = compiler.compile(generator.readTemplateSource(output.templateName));
+        String contents = template.execute(output.data);
+        long rendered = System.nanoTime();
+
+        LOGGER.info("writing file " + file);
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try {
+            out.write(contents);
+        } finally {
+            out.close();
+        }
+        if (generator.report != null) {
+            generator.report.rendered(output.templateName, rendered - start, System.nanoTime() - rendered, file.length());
+        }
+        return file;
+    }
+
+    private static final class Submission {
+        final OutputFile output;
+        final Future<File> future;
+
+        Submission(OutputFile output, Future<File> future) {
+            this.output = output;
+            this.future = future;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package de.cargath.codegen;
+
+import java.util.*;
+
+/**
+ * Packs units (models or operations) into a fixed number of shard files, keeping units which refer to each other
+ * in the same shard and the total weight of every shard about the same.
+ *
+ * Units are ordered by reference locality: starting from the first unit by name, a breadth-first walk visits
+ * every unit sharing a key (its own name or a name it refers to) with a visited one. The order is then cut
+ * into contiguous shards of balanced weight. Keys shared by more units than fit into one shard, like an error
+ * model every operation returns, say nothing about locality and are not followed.
+ *
+ * Ties are broken by name everywhere, so the same units always produce the same shards.
+ *
+ * Use:
+ * <pre>
+ * ShardPlanner&lt;CodegenModel&gt; planner = new ShardPlanner&lt;CodegenModel&gt;();
+ * planner.add(cm.classname, weight, references, cm);
+ * List&lt;List&lt;CodegenModel&gt;&gt; shards = planner.plan(count);
+ * </pre>
+ */
+final class ShardPlanner<T> {
+
+    private final SortedMap<String, Unit<T>> units = new TreeMap<String, Unit<T>>();
+
+    /**
+     * Adds a unit. Units are identified by name, adding a name twice replaces the unit.
+     *
+     * @param weight the estimated cost of the unit in its file, at least 1 is assumed.
+     * @param keys   the names the unit refers to, besides its own name.
+     */
+    ShardPlanner<T> add(String name, int weight, Collection<String> keys, T value) {
+        SortedSet<String> sortedKeys = new TreeSet<String>();
+        sortedKeys.add(name);
+        for (String key : keys) {
+            if (key != null) {
+                sortedKeys.add(key);
+            }
+        }
+        units.put(name, new Unit<T>(Math.max(1, weight), sortedKeys, value));
+        return this;
+    }
+
+    /**
+     * @return the values of the units, in at most {@code count} non-empty shards.
+     */
+    List<List<T>> plan(int count) {
+        List<Unit<T>> order = localityOrder(count);
+        int shardCount = Math.min(count, order.size());
+
+        long total = 0;
+        for (Unit<T> unit : order) {
+            total += unit.weight;
+        }
+
+        List<List<T>> shards = new ArrayList<List<T>>(shardCount);
+        List<T> shard = new ArrayList<T>();
+        long weight = 0;
+        for (int i = 0; i < order.size(); i++) {
+            Unit<T> unit = order.get(i);
+            shard.add(unit.value);
+            weight += unit.weight;
+
+            // cut where the running weight passes the next boundary, but leave a unit for every remaining shard
+            int shardsLeft = shardCount - shards.size() - 1;
+            int unitsLeft = order.size() - i - 1;
+            if (shardsLeft > 0 && (weight * shardCount >= total * (shards.size() + 1) || unitsLeft == shardsLeft)) {
+                shards.add(shard);
+                shard = new ArrayList<T>();
+            }
+        }
+        if (!shard.isEmpty()) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    private List<Unit<T>> localityOrder(int count) {
+        Map<String, List<Unit<T>>> byKey = new HashMap<String, List<Unit<T>>>();
+        for (Unit<T> unit : units.values()) {
+            for (String key : unit.keys) {
+                List<Unit<T>> sharing = byKey.get(key);
+                if (sharing == null) {
+                    sharing = new ArrayList<Unit<T>>();
+                    byKey.put(key, sharing);
+                }
+                sharing.add(unit);
+            }
+        }
+        int maxSharing = Math.max(2, (units.size() + count - 1) / Math.max(1, count));
+
+        List<Unit<T>> order = new ArrayList<Unit<T>>(units.size());
+        Set<Unit<T>> visited = new HashSet<Unit<T>>();
+        for (Unit<T> root : units.values()) {
+            if (!visited.add(root)) {
+                continue;
+            }
+            Deque<Unit<T>> queue = new ArrayDeque<Unit<T>>();
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                Unit<T> unit = queue.poll();
+                order.add(unit);
+                for (String key : unit.keys) {
+                    List<Unit<T>> sharing = byKey.get(key);
+                    if (sharing.size() > maxSharing) {
+                        continue;
+                    }
+                    for (Unit<T> next : sharing) {
+                        if (visited.add(next)) {
+                            queue.add(next);
+                        }
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    private static final class Unit<T> {
+        final int weight;
+        final SortedSet<String> keys;
+        final T value;
+
+        Unit(int weight, SortedSet<String> keys, T value) {
+            this.weight = weight;
+            this.keys = keys;
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Replaces structurally identical inline enums of several models by one shared top-level enum.
+ *
+ * Two inline enums are identical if they have the same raw type and the same set of values. A shared enum is named
+ * like most of the properties it replaces, counting every property of a model once (by name on a tie). If that name is taken by a model, by an inline enum
+ * which stays nested, or by another shared enum, the first 8 hex digits of the SHA-256 of its raw type and values
+ * are appended, e.g. {@code Status_1a2b3c4d}, so the name only depends on the enum itself.
+ *
+ * The properties are changed in place: their {@code enumName} and {@code datatypeWithEnum} refer to the shared enum,
+ * and {@link #SHARED_EXTENSION} tells the templates not to declare a nested enum.
+ */
+final class SharedEnums {
+
+    // set on enum properties whose enum is declared once at the top level
+    static final String SHARED_EXTENSION = "x-swiftlw-shared-enum";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private SharedEnums() {
+    }
+
+    /**
+     * @param models        all models of the spec.
+     * @param reservedNames names of the top-level types, which the shared enums must not take.
+     * @return the shared enums, sorted by name, as template data: {@code enumName}, {@code rawType},
+     *         {@code quoted} (whether the values are string literals), {@code enumVars} and {@code description}.
+     */
+    static List<Map<String, Object>> share(Collection<CodegenModel> models, Set<String> reservedNames) {
+        // every property of every model with an inline enum, by the raw type and values of the enum
+        Map<String, List<CodegenProperty>> byKey = new TreeMap<String, List<CodegenProperty>>();
+        // the enum name of every property with such an enum, by model and property name: the lists of a model
+        // hold the same property several times, and each of them should only count once
+        Map<String, Map<String, String>> owners = new HashMap<String, Map<String, String>>();
+        List<CodegenModel> sorted = new ArrayList<CodegenModel>(models);
+        Collections.sort(sorted, new Comparator<CodegenModel>() {
+            @Override
+            public int compare(CodegenModel a, CodegenModel b) {
+                return a.classname.compareTo(b.classname);
+            }
+        });
+        for (CodegenModel cm : sorted) {
+            for (CodegenProperty property : properties(cm)) {
+                String key = key(property);
+                if (key == null) {
+                    continue;
+                }
+                List<CodegenProperty> properties = byKey.get(key);
+                if (properties == null) {
+                    properties = new ArrayList<CodegenProperty>();
+                    byKey.put(key, properties);
+                    owners.put(key, new HashMap<String, String>());
+                }
+                properties.add(property);
+                owners.get(key).put(cm.classname + "." + property.name, property.enumName);
+            }
+        }
+
+        // enums which stay nested keep their names, shared enums must not shadow them
+        Set<String> taken = new HashSet<String>(reservedNames);
+        for (Map.Entry<String, List<CodegenProperty>> entry : byKey.entrySet()) {
+            if (owners.get(entry.getKey()).size() < 2) {
+                for (CodegenProperty property : entry.getValue()) {
+                    taken.add(property.enumName);
+                }
+            }
+        }
+
+        SortedMap<String, Map<String, Object>> declarations = new TreeMap<String, Map<String, Object>>();
+        for (Map.Entry<String, List<CodegenProperty>> entry : byKey.entrySet()) {
+            if (owners.get(entry.getKey()).size() < 2) {
+                continue;
+            }
+            List<CodegenProperty> properties = entry.getValue();
+            String name = commonName(owners.get(entry.getKey()).values());
+            if (!taken.add(name)) {
+                name = name + "_" + hash(entry.getKey());
+                taken.add(name);
+            }
+
+            CodegenProperty first = properties.get(0);
+            Map<String, Object> declaration = new HashMap<String, Object>();
+            declaration.put("enumName", name);
+            declaration.put("rawType", first.isContainer ? "String" : first.datatype);
+            declaration.put("quoted", first.isContainer || first.isString);
+            declaration.put("enumVars", first.allowableValues.get("enumVars"));
+            declaration.put("description", first.description);
+            declarations.put(name, declaration);
+
+            for (CodegenProperty property : properties) {
+                property.datatypeWithEnum = property.datatypeWithEnum.replace(property.enumName, name);
+                property.enumName = name;
+                // the map belongs to the swagger property, don't write through to it
+                property.vendorExtensions = new HashMap<String, Object>(property.vendorExtensions);
+                property.vendorExtensions.put(SHARED_EXTENSION, true);
+            }
+        }
+        return new ArrayList<Map<String, Object>>(declarations.values());
+    }
+
+    private static List<CodegenProperty> properties(CodegenModel cm) {
+        // the lists may hold the same or copied properties, all of them are rendered
+        List<CodegenProperty> properties = new ArrayList<CodegenProperty>();
+        for (List<CodegenProperty> vars : Arrays.asList(cm.vars, cm.allVars, cm.requiredVars, cm.optionalVars)) {
+            if (vars != null) {
+                properties.addAll(vars);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return the raw type and the sorted values of an inline enum, or {@code null} if the property has none.
+     */
+    private static String key(CodegenProperty property) {
+        if (!property.isEnum || property.enumName == null || property.allowableValues == null) {
+            return null;
+        }
+        Object values = property.allowableValues.get("values");
+        if (!(values instanceof Collection)) {
+            return null;
+        }
+        SortedSet<String> sortedValues = new TreeSet<String>();
+        for (Object value : (Collection<?>) values) {
+            sortedValues.add(String.valueOf(value));
+        }
+        StringBuilder key = new StringBuilder(property.isContainer ? "String" : property.datatype);
+        for (String value : sortedValues) {
+            key.append('\u0000').append(value);
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the most common of the enum names of the owners, the first one by name on a tie.
+     */
+    private static String commonName(Collection<String> enumNames) {
+        Map<String, Integer> counts = new TreeMap<String, Integer>();
+        for (String enumName : enumNames) {
+            Integer count = counts.get(enumName);
+            counts.put(enumName, count == null ? 1 : count + 1);
+        }
+        String name = null;
+        int max = 0;
+        for (Map.Entry<String, Integer> count : counts.entrySet()) {
+            if (count.getValue() > max) {
+                name = count.getKey();
+                max = count.getValue();
+            }
+        }
+        return name;
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            char[] chars = new char[8];
+            for (int i = 0; i < 4; i++) {
+                chars[2 * i] = HEX[(digest[i] >> 4) & 0xf];
+                chars[2 * i + 1] = HEX[digest[i] & 0xf];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
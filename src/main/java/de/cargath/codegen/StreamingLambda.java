@@ -0,0 +1,81 @@
+package de.cargath.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A lambda which transforms the text of a fragment one character at a time, while it is written.
+ *
+ * The fragment is executed straight into a {@link Filter} around the template's writer,
+ * so neither the text of the fragment nor any part of it is ever held as a string.
+ * The only allocation per invocation is the filter itself.
+ */
+abstract class StreamingLambda implements Mustache.Lambda {
+
+    @Override
+    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
+        Filter filter = filter(writer);
+        fragment.execute(filter);
+        filter.finish();
+    }
+
+    /**
+     * @return a new filter writing to the given writer. Filters are not shared, lambdas may be nested and run on several threads.
+     */
+    protected abstract Filter filter(Writer out);
+
+    /**
+     * Receives the text of a fragment and writes the transformed text to the template's writer.
+     */
+    abstract static class Filter extends Writer {
+        protected final Writer out;
+
+        protected Filter(Writer out) {
+            this.out = out;
+        }
+
+        /**
+         * Transforms and writes a single character.
+         */
+        protected abstract void filter(char c) throws IOException;
+
+        /**
+         * Writes whatever is still held back once the fragment is done.
+         */
+        protected void finish() throws IOException {
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            filter((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                filter(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                filter(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() {
+            // the template flushes its own writer
+        }
+
+        @Override
+        public void close() {
+            // the template's writer is not ours to close
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package de.cargath.codegen;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Character scanning helpers for the naming callbacks of {@link SwiftLWGenerator}.
+ *
+ * These replace the regular expressions that used to be compiled and matched for every
+ * enum value; each helper documents the expression it stands in for.
+ */
+final class SwiftIdentifiers {
+
+    /**
+     * Swift types for which enum cases are named after their numeric value.
+     */
+    static final Set<String> NUMERIC_DATATYPES = new HashSet<String>(
+        Arrays.asList("Int", "Int32", "Int64", "Float", "Double")
+    );
+
+    private SwiftIdentifiers() {
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLowerOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || isDigit(c);
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isUpper(c) || isLowerOrDigit(c);
+    }
+
+    /**
+     * Equivalent to the length of the match of {@code ^\d+}.
+     *
+     * @return the number of ASCII digits the name starts with.
+     */
+    static int leadingDigits(String name) {
+        int i = 0;
+        while (i < name.length() && isDigit(name.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Equivalent to {@code name.matches("\\d.*")} for single line names.
+     */
+    static boolean startsWithDigit(String name) {
+        return name.length() > 0 && isDigit(name.charAt(0));
+    }
+
+    /**
+     * Equivalent to {@code name.matches("[A-Z][a-z0-9]+[a-zA-Z0-9]*")}.
+     */
+    static boolean isCapitalizedWord(String name) {
+        if (name.length() < 2 || !isUpper(name.charAt(0)) || !isLowerOrDigit(name.charAt(1))) {
+            return false;
+        }
+        for (int i = 2; i < name.length(); i++) {
+            if (!isAlphanumeric(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spells out the signs of a number, equivalent to replacing {@code -}, {@code +} and {@code .}
+     * with {@code minus}, {@code plus} and {@code dot}.
+     */
+    static String spellNumberSigns(String name) {
+        StringBuilder sb = null;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            String replacement = c == '-' ? "minus" : c == '+' ? "plus" : c == '.' ? "dot" : null;
+            if (replacement != null && sb == null) {
+                sb = new StringBuilder(name.length() + 8).append(name, 0, i);
+            }
+            if (sb != null) {
+                if (replacement != null) {
+                    sb.append(replacement);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb == null ? name : sb.toString();
+    }
+
+    /**
+     * Title-cases every word of a lower-cased name and drops the separators in between.
+     *
+     * Equivalent to:
+     * <pre>
+     * WordUtils.capitalizeFully(StringUtils.lowerCase(name), '-', '_', ' ', ':', '(', ')')
+     *     .replaceAll("[-_ :\\(\\)]", "")
+     * </pre>
+     */
+    static String joinCapitalizedWords(String name) {
+        String lowercase = name.toLowerCase();
+        StringBuilder sb = new StringBuilder(lowercase.length());
+        boolean capitalizeNext = true;
+        for (int i = 0; i < lowercase.length(); i++) {
+            char c = lowercase.charAt(i);
+            switch (c) {
+                case '-':
+                case '_':
+                case ' ':
+                case ':':
+                case '(':
+                case ')':
+                    capitalizeNext = true;
+                    break;
+                default:
+                    sb.append(capitalizeNext ? Character.toTitleCase(c) : c);
+                    capitalizeNext = false;
+            }
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,398 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a warm JVM around and regenerates the client whenever the spec or a template changes.
+ *
+ * Every run uses a fresh {@link SwiftLWGenerator} in incremental mode, so only the files whose inputs changed
+ * are written again. Loaded templates are shared between runs until a template changes, every run compiles
+ * its own, since compiled templates refer to the generator which compiled them.
+ * Only the template folder with its subfolders, the spec and the files it refers to with {@code $ref} are watched,
+ * never the output folder.
+ *
+ * Usage:
+ * <pre>
+ * java -cp swagger-codegen-cli.jar:swiftLW-swagger-codegen.jar de.cargath.codegen.SwiftLWDaemon \
+ *     -i swagger.yaml -o ./Network [-t templates] [-c config.json] [--additional-properties a=b,c=d] \
+ *     [--debounce 200] [--once]
+ * </pre>
+ */
+public class SwiftLWDaemon {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SwiftLWDaemon.class);
+
+    private static final String USAGE = "Usage: SwiftLWDaemon -i <spec> -o <output folder> [-t <template folder>] "
+        + "[-c <config file>] [--additional-properties <name=value,...>] [--debounce <ms>] [--once]";
+
+    private final CodegenConfigurator configurator;
+    private final TemplateRegistry templateSources = new TemplateRegistry();
+
+    private long debounceMillis = 200;
+
+    public SwiftLWDaemon(CodegenConfigurator configurator) {
+        this.configurator = configurator;
+        if (!configurator.getAdditionalProperties().containsKey(SwiftLWGenerator.INCREMENTAL)) {
+            configurator.addAdditionalProperty(SwiftLWGenerator.INCREMENTAL, true);
+        }
+    }
+
+    public void setDebounceMillis(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        CodegenConfigurator configurator = null;
+        Map<String, Object> additionalProperties = new HashMap<String, Object>();
+        String inputSpec = null;
+        String outputDir = null;
+        String templateDir = null;
+        long debounceMillis = -1;
+        boolean once = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--once".equals(arg)) {
+                once = true;
+                continue;
+            }
+            if (i + 1 == args.length) {
+                usage("Missing value for " + arg);
+            }
+            String value = args[++i];
+            if ("-i".equals(arg) || "--input-spec".equals(arg)) {
+                inputSpec = value;
+            } else if ("-o".equals(arg) || "--output".equals(arg)) {
+                outputDir = value;
+            } else if ("-t".equals(arg) || "--template-dir".equals(arg)) {
+                templateDir = value;
+            } else if ("-c".equals(arg) || "--config".equals(arg)) {
+                configurator = CodegenConfigurator.fromFile(value);
+                if (configurator == null) {
+                    usage("Could not read config file " + value);
+                }
+            } else if ("--additional-properties".equals(arg)) {
+                for (String property : value.split(",")) {
+                    String[] pair = property.split("=", 2);
+                    if (pair.length != 2) {
+                        usage("Invalid additional property " + property);
+                    }
+                    additionalProperties.put(pair[0].trim(), pair[1].trim());
+                }
+            } else if ("--debounce".equals(arg)) {
+                debounceMillis = Long.parseLong(value);
+            } else {
+                usage("Unknown option " + arg);
+            }
+        }
+
+        if (configurator == null) {
+            configurator = new CodegenConfigurator();
+        }
+        configurator.setLang("swiftLW");
+        if (inputSpec != null) {
+            configurator.setInputSpec(inputSpec);
+        }
+        if (outputDir != null) {
+            configurator.setOutputDir(outputDir);
+        }
+        if (templateDir != null) {
+            configurator.setTemplateDir(templateDir);
+        }
+        for (Map.Entry<String, Object> property : additionalProperties.entrySet()) {
+            configurator.addAdditionalProperty(property.getKey(), property.getValue());
+        }
+        if (configurator.getInputSpec() == null) {
+            usage("Missing input spec");
+        }
+
+        SwiftLWDaemon daemon = new SwiftLWDaemon(configurator);
+        if (debounceMillis >= 0) {
+            daemon.setDebounceMillis(debounceMillis);
+        }
+        if (once) {
+            daemon.run();
+        } else {
+            daemon.watch();
+        }
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+
+    /**
+     * Generates the client once.
+     *
+     * @return the files written by {@link DefaultGenerator}.
+     */
+    public List<File> run() {
+        long start = System.nanoTime();
+        ClientOptInput input = configurator.toClientOptInput();
+        CodegenConfig config = input.getConfig();
+        if (config instanceof SwiftLWGenerator) {
+            ((SwiftLWGenerator) config).setTemplateRegistry(templateSources.withSharedSources());
+        }
+        List<File> files = new DefaultGenerator().opts(input).generate();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info("Generated " + configurator.getInputSpec() + " in " + millis + " ms");
+        return files;
+    }
+
+    /**
+     * Generates the client, then watches the folders of the spec files and the template folder tree
+     * and generates it again on every change. Never returns unless interrupted.
+     */
+    public void watch() throws IOException, InterruptedException {
+        File specFile = new File(configurator.getInputSpec()).getAbsoluteFile();
+        File templateFolder = configurator.getTemplateDir() == null ? null : new File(configurator.getTemplateDir()).getAbsoluteFile();
+        File outputFolder = new File(configurator.getOutputDir()).getAbsoluteFile();
+
+        WatchService watcher = FileSystems.getDefault().newWatchService();
+        try {
+            Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+            if (templateFolder != null) {
+                registerTree(watcher, folders, templateFolder.toPath());
+            }
+
+            Set<File> specFiles = specFiles(specFile, outputFolder);
+            for (File file : specFiles) {
+                register(watcher, folders, file.getParentFile().toPath());
+            }
+            runSafely();
+            while (!Thread.currentThread().isInterrupted()) {
+                Changes changes = awaitChanges(watcher, folders, templateFolder, specFiles);
+
+                if (changes.templates) {
+                    LOGGER.info("Templates changed");
+                    templateSources.clear();
+                    // folders may have been created in the template folder
+                    registerTree(watcher, folders, templateFolder.toPath());
+                }
+                if (changes.spec) {
+                    // the spec may refer to other files now
+                    specFiles = specFiles(specFile, outputFolder);
+                    for (File file : specFiles) {
+                        register(watcher, folders, file.getParentFile().toPath());
+                    }
+                }
+                if (changes.spec || changes.templates) {
+                    runSafely();
+                }
+            }
+        } finally {
+            watcher.close();
+        }
+    }
+
+    /**
+     * What changed since the last run.
+     */
+    static final class Changes {
+        boolean spec;
+        boolean templates;
+    }
+
+    /**
+     * Waits for the first event, then collects events until there has been none for the debounce time,
+     * editors tend to write in several steps. Keys of folders which are gone are removed from {@code folders}.
+     */
+    Changes awaitChanges(WatchService watcher, Map<WatchKey, Path> folders, File templateFolder, Set<File> specFiles)
+            throws InterruptedException {
+        Changes changes = new Changes();
+        WatchKey key = watcher.take();
+        while (key != null) {
+            Path folder = folders.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changes.spec = true;
+                    changes.templates = templateFolder != null;
+                    continue;
+                }
+                File changed = folder.resolve((Path) event.context()).toFile();
+                if (templateFolder != null && isInside(changed, templateFolder)) {
+                    changes.templates = true;
+                } else if (specFiles.contains(changed)) {
+                    changes.spec = true;
+                }
+            }
+            if (!key.reset()) {
+                // the folder was deleted, it is registered again if it comes back
+                folders.remove(key);
+            }
+            key = watcher.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        return changes;
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            // keep watching, the next save will probably fix it
+            LOGGER.error("Could not generate " + configurator.getInputSpec(), e);
+        }
+    }
+
+    /**
+     * Registers a folder and all folders below it which aren't registered yet.
+     */
+    static void registerTree(final WatchService watcher, final Map<WatchKey, Path> folders, Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path folder, BasicFileAttributes attributes) throws IOException {
+                try {
+                    register(watcher, folders, folder);
+                } catch (NoSuchFileException e) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                // deleted while walking the tree
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    static void register(WatchService watcher, Map<WatchKey, Path> folders, Path folder) throws IOException {
+        if (folders.containsValue(folder)) {
+            return;
+        }
+        WatchKey key = folder.register(watcher,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        folders.put(key, folder);
+        LOGGER.info("Watching " + folder);
+    }
+
+    /**
+     * @return the spec and the files it refers to with {@code $ref}, transitively. Files written by the generator
+     *         (the report and the manifest, and anything in the output folder unless the spec is in there as well)
+     *         are left out, so a run never triggers the next one. Files which can't be read (e.g. while they are
+     *         being saved) are still watched, but not followed.
+     */
+    static Set<File> specFiles(File specFile, File outputFolder) {
+        outputFolder = canonical(outputFolder);
+        boolean specInOutput = isInside(canonical(specFile), outputFolder);
+        Set<File> files = new HashSet<File>();
+        Deque<File> pending = new ArrayDeque<File>();
+        files.add(canonical(specFile));
+        pending.push(canonical(specFile));
+        while (!pending.isEmpty()) {
+            File file = pending.pop();
+            JsonNode root;
+            try {
+                root = (file.getName().endsWith(".json") ? Json.mapper() : Yaml.mapper()).readTree(file);
+            } catch (IOException e) {
+                LOGGER.debug("Could not read " + file + " for references", e);
+                continue;
+            } catch (RuntimeException e) {
+                LOGGER.debug("Could not read " + file + " for references", e);
+                continue;
+            }
+            for (String ref : refs(root)) {
+                int fragment = ref.indexOf('#');
+                String path = fragment < 0 ? ref : ref.substring(0, fragment);
+                if (path.isEmpty() || path.contains("://")) {
+                    continue;
+                }
+                File referenced = canonical(new File(file.getParentFile(), path));
+                if (isGenerated(referenced, outputFolder, specInOutput)) {
+                    continue;
+                }
+                if (files.add(referenced)) {
+                    pending.push(referenced);
+                }
+            }
+        }
+        return files;
+    }
+
+    private static Set<String> refs(JsonNode root) {
+        Set<String> refs = new HashSet<String>();
+        Deque<JsonNode> pending = new ArrayDeque<JsonNode>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            JsonNode node = pending.pop();
+            if (node.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    if ("$ref".equals(field.getKey()) && field.getValue().isTextual()) {
+                        refs.add(field.getValue().asText());
+                    } else {
+                        pending.push(field.getValue());
+                    }
+                }
+            } else if (node.isArray()) {
+                for (JsonNode element : node) {
+                    pending.push(element);
+                }
+            }
+        }
+        return refs;
+    }
+
+    private static boolean isGenerated(File file, File outputFolder, boolean specInOutput) {
+        String name = file.getName();
+        return GenerationReport.FILE_NAME.equals(name) || GenerationManifest.FILE_NAME.equals(name)
+            || (!specInOutput && isInside(file, outputFolder));
+    }
+
+    private static boolean isInside(File file, File folder) {
+        for (File parent = file; parent != null; parent = parent.getParentFile()) {
+            if (parent.equals(folder)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static File canonical(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+}
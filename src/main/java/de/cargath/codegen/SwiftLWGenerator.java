@@ -1,95 +1,167 @@
 package de.cargath.codegen;
 
 import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
 
 import io.swagger.codegen.*;
 import io.swagger.codegen.CodegenModel;
 
+import io.swagger.models.HttpMethod;
 import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
 import io.swagger.models.properties.*;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.text.WordUtils;
 
-/**
- * Converts text in a fragment to title case.
- *
- * Register:
- * <pre>
- * additionalProperties.put("titlecase", new TitlecaseLambda());
- * </pre>
- *
- * Use:
- * <pre>
- * {{#titlecase}}{{classname}}{{/titlecase}}
- * </pre>
- */
-class TitlecaseLambda implements Mustache.Lambda  {
-    private String delimiter;
-
-    /**
-     * Constructs a new instance of {@link TitlecaseLambda}, which will convert all text
-     * in a space delimited string to title-case.
-     */
-    public TitlecaseLambda() {
-        this(" ");
-    }
-
-    /**
-     * Constructs a new instance of {@link TitlecaseLambda}, splitting on the specified
-     * delimiter and converting each word to title-case.
-     *
-     * NOTE: passing {@code null} results in a title-casing the first word only.
-     *
-     * @param delimiter Provided to allow an override for the default space delimiter.
-     */
-    public TitlecaseLambda(String delimiter) {
-        this.delimiter = delimiter;
-    }
-
-    private String titleCase(final String input) {
-        return input.substring(0, 1).toUpperCase() + input.substring(1);
-    }
-
-    @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String text = fragment.execute();
-        if (delimiter == null) {
-            writer.write(titleCase(text));
-            return;
-        }
-
-        // Split accepts regex. \Q and \E wrap the delimiter to create a literal regex,
-        // so things like "." and "|" aren't treated as their regex equivalents.
-        String[] parts = text.split("\\Q" + delimiter + "\\E");
-        for (int i = 0; i < parts.length; i++) {
-            String part = parts[i];
-            writer.write(titleCase(part));
-            if (i != parts.length - 1) {
-                writer.write(delimiter);
-            }
-        }
-    }
-}
-
 public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
 
     //
     public static final String OBJC_COMPATIBLE = "objcCompatible";
     public static final String PROJECT_NAME = "projectName";
+    public static final String NAMING_CACHE_SIZE = "namingCacheSize";
+    public static final String INCREMENTAL = "incremental";
+    public static final String PARALLELISM = "parallelism";
+    public static final String STREAMING_MODELS = "streamingModels";
+    public static final String RESPONSE_CACHE = "responseCache";
+    public static final String COALESCE_REQUESTS = "coalesceRequests";
+    public static final String STREAMING_ARRAYS = "streamingArrays";
+    public static final String ASYNC_AWAIT = "asyncAwait";
+    public static final String CALLBACK_API = "callbackApi";
+    public static final String REQUEST_METRICS = "requestMetrics";
+    public static final String MESSAGE_PACK = "messagePack";
+    public static final String INSTRUMENTATION = "instrumentation";
+    public static final String MODEL_SHARDS = "modelShards";
+    public static final String OPERATION_SHARDS = "operationShards";
+    public static final String SELECT_OPERATIONS = "selectOperations";
+    public static final String SELECT_EXTENSION = "selectExtension";
+    public static final String SHARED_ENUMS = "sharedEnums";
+    public static final String REQUEST_SCHEDULER = "requestScheduler";
+
+    // vendor extension of an operation, seconds to cache its responses for
+    public static final String CACHE_TTL_EXTENSION = "x-swiftlw-cache-ttl";
+
+    // set on operations whose concurrent identical requests share one request
+    public static final String COALESCE_EXTENSION = "x-swiftlw-coalesce";
+
+    // set on operations returning an array, the element type of their streaming variant
+    public static final String STREAMING_ELEMENT_EXTENSION = "x-swiftlw-streaming-element";
+
+    // set on operations when collecting metrics, the tag of the operation as written in the spec
+    public static final String METRICS_TAG_EXTENSION = "x-swiftlw-metrics-tag";
+
+    // vendor extension of an operation, the default priority of its requests: high, normal or low
+    public static final String PRIORITY_EXTENSION = "x-swiftlw-priority";
+
+    // set on properties with format date (or arrays and maps of them), the Swift expression encoding them as full-date strings
+    public static final String FULL_DATE_EXTENSION = "x-swiftlw-full-date";
+
+    // set on models with a property marked with FULL_DATE_EXTENSION, which encode themselves
+    public static final String HAS_FULL_DATES_EXTENSION = "x-swiftlw-has-full-dates";
+
+    // set on operations, the body of a Swift string literal building their percent-encoded path from the path parameters
+    public static final String PATH_EXTENSION = "x-swiftlw-path";
+
+    // set on query parameters, their percent-encoded name
+    public static final String QUERY_NAME_EXTENSION = "x-swiftlw-query-name";
+
+    // characters besides letters and digits which can stay as they are in a path and in a query name, see RFC 3986
+    protected static final String PATH_CHARACTERS = "-._~!$&'()*+,;=:@/";
+    protected static final String QUERY_NAME_CHARACTERS = "-._~!$'()*,;:@/";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    // methods which neither change anything on the server nor depend on being sent once
+    protected static final Set<String> SAFE_METHODS = new HashSet<String>(Arrays.asList("GET", "HEAD", "OPTIONS"));
+
+    // the cases of RequestScheduler.Priority, in the order of the lanes
+    protected static final List<String> PRIORITIES = Arrays.asList("high", "normal", "low");
 
     protected boolean objcCompatible = false;
     protected String projectName = "Network";
 
+    // memoized results of the naming callbacks, keyed by (name, datatype)
+    protected NamingCache enumVarNameCache;
+    protected NamingCache enumNameCache;
+    protected NamingCache operationIdCache;
+
+    // skip files whose inputs did not change since the last run
+    protected boolean incremental = false;
+    protected GenerationManifest manifest;
+    protected Fingerprinter fingerprinter;
+
+    // render model and API files on this many threads, 1 leaves rendering to DefaultGenerator
+    protected int parallelism = 1;
+    protected OutputRenderer renderer;
+
+    // templates and partials, loaded and compiled once
+    protected TemplateRegistry templates = new TemplateRegistry();
+
+    // render every model as soon as it is processed and keep only a stub of it
+    protected boolean streamingModels = false;
+    protected final Set<String> streamedFiles = Collections.synchronizedSet(new HashSet<String>());
+
+    // renders on the calling thread, for streamed models and for timing the templates
+    protected OutputRenderer directRenderer;
+
+    // generate a response cache for GET operations
+    protected boolean responseCache = false;
+
+    // let concurrent identical requests of safe operations share one request
+    protected boolean coalesceRequests = false;
+
+    // generate a variant decoding the elements of array responses in batches while they are received
+    protected boolean streamingArrays = false;
+
+    // generate async throws variants of the operations, and the success/failure variants
+    protected boolean asyncAwait = false;
+    protected boolean callbackApi = true;
+
+    // collect the metrics of sampled requests for an observer
+    protected boolean requestMetrics = false;
+
+    // start requests through a scheduler limiting the requests per host and ordering them by priority
+    protected boolean requestScheduler = false;
+
+    // accept and decode MessagePack responses besides JSON
+    protected boolean messagePack = false;
+
+    // time the stages, hooks and templates of the run and write them to a report, see GenerationReport
+    protected boolean instrumentation = false;
+    protected GenerationReport report;
+
+    // pack the models and the operations into this many files each, 0 writes a file per model and per tag
+    protected int modelShards = 0;
+    protected int operationShards = 0;
+    protected final List<Map<String, Object>> shardedApis = new ArrayList<Map<String, Object>>();
+
+    // generate only these operations (by tag or operationId) and those with this vendor extension, and the models they use
+    protected final Set<String> selectedOperations = new HashSet<String>();
+    protected String selectExtension;
+
+    // declare structurally identical inline enums of several models once, see SharedEnums
+    protected boolean sharedEnums = false;
+    protected List<Map<String, Object>> sharedEnumDeclarations = Collections.emptyList();
+
+    // the spec is parsed between constructing the generator and processOpts
+    protected final long constructedNanos = System.nanoTime();
+
+    // element types of the array models, by class name
+    protected final Map<String, String> arrayModelElements = new HashMap<String, String>();
+
+    // formats of the date values in the spec, for the date strategies of the shared coders
+    protected boolean hasDateFormat = false;
+    protected boolean hasDateTimeFormat = false;
+
+    // files about to be written, by file name
+    protected final Map<String, OutputFile> outputFiles = new HashMap<String, OutputFile>();
+
     // source folder where to write the files
     protected String sourceFolder = "Source";
     protected String apiVersion = "1.0.0";
@@ -216,15 +288,51 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
         typeMapping.put("ByteArray", "Data");
         typeMapping.put("UUID", "UUID");
 
-        // additionalProperties.put("camelcase", new CamelCaseLambda());
-        // additionalProperties.put("indent2", new IndentedLambda(2));
-        // additionalProperties.put("indent4", new IndentedLambda(4));
-        // additionalProperties.put("indent8", new IndentedLambda(8));
-        // additionalProperties.put("lowercase", new LowercaseLambda());
+        additionalProperties.put("camelcase", new CamelCaseLambda());
+        additionalProperties.put("indent2", new IndentedLambda(2));
+        additionalProperties.put("indent4", new IndentedLambda(4));
+        additionalProperties.put("indent8", new IndentedLambda(8));
+        additionalProperties.put("lowercase", new LowercaseLambda());
         additionalProperties.put("titlecase", new TitlecaseLambda());
-        // additionalProperties.put("uppercase", new UppercaseLambda());
+        additionalProperties.put("uppercase", new UppercaseLambda());
 
         cliOptions.add(new CliOption(PROJECT_NAME, "Project name in Xcode"));
+        cliOptions.add(new CliOption(NAMING_CACHE_SIZE, "Maximum number of memoized names per naming callback, 0 disables the cache")
+            .defaultValue(String.valueOf(NamingCache.DEFAULT_MAX_SIZE)));
+        cliOptions.add(CliOption.newBoolean(INCREMENTAL, "Only write files whose inputs changed since the last run, and delete files of removed models and tags")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(new CliOption(PARALLELISM, "Number of threads rendering model and API files, 1 renders them one at a time")
+            .defaultValue("1"));
+        cliOptions.add(CliOption.newBoolean(STREAMING_MODELS, "Write every model right after it is processed and release it, to bound the memory used by large specs")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(RESPONSE_CACHE, "Generate an in-memory and on-disk cache for the responses of GET operations, honouring Cache-Control, ETag and " + CACHE_TTL_EXTENSION)
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(COALESCE_REQUESTS, "Let concurrent calls of the same GET, HEAD or OPTIONS operation with the same parameters share one request")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(STREAMING_ARRAYS, "Generate a variant of every operation returning an array, which decodes the elements in batches while the response is received")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(ASYNC_AWAIT, "Generate async throws variants of the operations, cancelling their requests when their task is cancelled")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(CALLBACK_API, "Generate the variants of the operations taking success and failure callbacks")
+            .defaultValue(Boolean.TRUE.toString()));
+        cliOptions.add(CliOption.newBoolean(REQUEST_METRICS, "Collect timings, sizes and decoding time of sampled requests, tagged with their operation, for an observer")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(REQUEST_SCHEDULER, "Start requests through a scheduler limiting the requests running per host, in high, normal and low priority lanes set per call or with " + PRIORITY_EXTENSION)
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(MESSAGE_PACK, "Generate a MessagePack encoder and decoder for the models, and prefer MessagePack responses over JSON")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(INSTRUMENTATION, "Write the time spent per stage, hook and template, the bytes written and the heap used to " + GenerationReport.FILE_NAME + " in the output folder")
+            .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(new CliOption(MODEL_SHARDS, "Pack the models into this many files of about the same size, keeping models which refer to each other together, 0 writes a file per model")
+            .defaultValue("0"));
+        cliOptions.add(new CliOption(OPERATION_SHARDS, "Pack the operations into this many files of about the same size, keeping operations of the same tag and models together, 0 writes a file per tag")
+            .defaultValue("0"));
+        cliOptions.add(new CliOption(SELECT_OPERATIONS, "Only generate the operations with these tags or operationIds, separated by semicolons, and the models they use"));
+        cliOptions.add(new CliOption(SELECT_EXTENSION, "Only generate the operations where this vendor extension is set, and the models they use"));
+        cliOptions.add(CliOption.newBoolean(SHARED_ENUMS, "Declare inline enums with the same raw type and values in several models once, as a top-level enum")
+            .defaultValue(Boolean.FALSE.toString()));
+
+        setNamingCacheSize(NamingCache.DEFAULT_MAX_SIZE);
     }
 
     @Override
@@ -239,6 +347,16 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
     public void processOpts() {
         super.processOpts();
 
+        // Setup instrumentation option first,
+        // which times everything from here on in stages.
+        if (additionalProperties.containsKey(INSTRUMENTATION)) {
+            setInstrumentation(convertPropertyToBooleanAndWriteBack(INSTRUMENTATION));
+        }
+        if (instrumentation) {
+            report = new GenerationReport(constructedNanos, "parseSpec");
+            report.stage("processOpts");
+        }
+
         // Setup project name.
         if (additionalProperties.containsKey(PROJECT_NAME)) {
             setProjectName((String) additionalProperties.get(PROJECT_NAME));
@@ -256,6 +374,132 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
         }
         additionalProperties.put(OBJC_COMPATIBLE, objcCompatible);
 
+        // Setup namingCacheSize option.
+        if (additionalProperties.containsKey(NAMING_CACHE_SIZE)) {
+            setNamingCacheSize(Integer.parseInt(additionalProperties.get(NAMING_CACHE_SIZE).toString()));
+        }
+
+        // Setup incremental option,
+        // which records the inputs of every file in a manifest in the output folder.
+        if (additionalProperties.containsKey(INCREMENTAL)) {
+            setIncremental(convertPropertyToBooleanAndWriteBack(INCREMENTAL));
+        }
+        if (incremental) {
+            manifest = GenerationManifest.load(new File(outputFolder));
+            fingerprinter = new Fingerprinter(this);
+        }
+
+        // Setup parallelism option.
+        if (additionalProperties.containsKey(PARALLELISM)) {
+            setParallelism(Integer.parseInt(additionalProperties.get(PARALLELISM).toString()));
+        }
+        if (parallelism > 1) {
+            renderer = new OutputRenderer(this, parallelism);
+        }
+
+        // Setup modelShards and operationShards options,
+        // which replace the files per model and per tag with shard files written by the generator.
+        if (additionalProperties.containsKey(MODEL_SHARDS)) {
+            setModelShards(Integer.parseInt(additionalProperties.get(MODEL_SHARDS).toString()));
+        }
+        if (additionalProperties.containsKey(OPERATION_SHARDS)) {
+            setOperationShards(Integer.parseInt(additionalProperties.get(OPERATION_SHARDS).toString()));
+        }
+        if (modelShards > 0) {
+            modelTemplateFiles.clear();
+        }
+        if (operationShards > 0) {
+            apiTemplateFiles.clear();
+        }
+
+        // Setup selectOperations and selectExtension options,
+        // which prune the spec in preprocessSwagger.
+        if (additionalProperties.containsKey(SELECT_OPERATIONS)) {
+            setSelectedOperations(additionalProperties.get(SELECT_OPERATIONS).toString());
+        }
+        if (additionalProperties.containsKey(SELECT_EXTENSION)) {
+            setSelectExtension(additionalProperties.get(SELECT_EXTENSION).toString());
+        }
+
+        // Setup streamingModels option.
+        if (additionalProperties.containsKey(STREAMING_MODELS)) {
+            setStreamingModels(convertPropertyToBooleanAndWriteBack(STREAMING_MODELS));
+        }
+        if (streamingModels && modelShards > 0) {
+            LOGGER.warn(STREAMING_MODELS + " can not be combined with " + MODEL_SHARDS + ", which needs all models at once, keeping all models in memory");
+            streamingModels = false;
+        }
+        // Setup sharedEnums option,
+        // which needs all models at once as well.
+        if (additionalProperties.containsKey(SHARED_ENUMS)) {
+            setSharedEnums(convertPropertyToBooleanAndWriteBack(SHARED_ENUMS));
+        }
+        if (sharedEnums && streamingModels) {
+            LOGGER.warn(SHARED_ENUMS + " is not supported with " + STREAMING_MODELS + ", every model declares its inline enums");
+            sharedEnums = false;
+        }
+
+        if (streamingModels || instrumentation || modelShards > 0 || operationShards > 0) {
+            directRenderer = new OutputRenderer(this, 1);
+        }
+
+        // Setup responseCache option,
+        // which adds a response cache to the client.
+        if (additionalProperties.containsKey(RESPONSE_CACHE)) {
+            setResponseCache(convertPropertyToBooleanAndWriteBack(RESPONSE_CACHE));
+        }
+        additionalProperties.put(RESPONSE_CACHE, responseCache);
+
+        // Setup coalesceRequests option,
+        // which lets identical requests in flight share one data task.
+        if (additionalProperties.containsKey(COALESCE_REQUESTS)) {
+            setCoalesceRequests(convertPropertyToBooleanAndWriteBack(COALESCE_REQUESTS));
+        }
+        additionalProperties.put(COALESCE_REQUESTS, coalesceRequests);
+
+        // Setup streamingArrays option,
+        // which adds a batched, incrementally decoding variant to operations returning arrays.
+        if (additionalProperties.containsKey(STREAMING_ARRAYS)) {
+            setStreamingArrays(convertPropertyToBooleanAndWriteBack(STREAMING_ARRAYS));
+        }
+        additionalProperties.put(STREAMING_ARRAYS, streamingArrays);
+
+        // Setup asyncAwait and callbackApi options,
+        // which select the variants generated for every operation.
+        if (additionalProperties.containsKey(ASYNC_AWAIT)) {
+            setAsyncAwait(convertPropertyToBooleanAndWriteBack(ASYNC_AWAIT));
+        }
+        if (additionalProperties.containsKey(CALLBACK_API)) {
+            setCallbackApi(convertPropertyToBooleanAndWriteBack(CALLBACK_API));
+        }
+        if (!asyncAwait && !callbackApi) {
+            LOGGER.warn(CALLBACK_API + " can only be turned off together with " + ASYNC_AWAIT + "=true, generating the callback API anyway");
+            callbackApi = true;
+        }
+        additionalProperties.put(ASYNC_AWAIT, asyncAwait);
+        additionalProperties.put(CALLBACK_API, callbackApi);
+
+        // Setup requestMetrics option,
+        // which makes the client's session delegate collect URLSessionTaskMetrics.
+        if (additionalProperties.containsKey(REQUEST_METRICS)) {
+            setRequestMetrics(convertPropertyToBooleanAndWriteBack(REQUEST_METRICS));
+        }
+        additionalProperties.put(REQUEST_METRICS, requestMetrics);
+
+        // Setup requestScheduler option,
+        // which queues requests per host and starts them by priority.
+        if (additionalProperties.containsKey(REQUEST_SCHEDULER)) {
+            setRequestScheduler(convertPropertyToBooleanAndWriteBack(REQUEST_SCHEDULER));
+        }
+        additionalProperties.put(REQUEST_SCHEDULER, requestScheduler);
+
+        // Setup messagePack option,
+        // which negotiates MessagePack with the Accept header and decodes responses by their Content-Type.
+        if (additionalProperties.containsKey(MESSAGE_PACK)) {
+            setMessagePack(convertPropertyToBooleanAndWriteBack(MESSAGE_PACK));
+        }
+        additionalProperties.put(MESSAGE_PACK, messagePack);
+
         /**
          * Supporting Files.
          * You can write single files for the generator with the entire object tree available.
@@ -263,12 +507,41 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
          * Otherwise, it will be copied.
          */
         supportingFiles.add(new SupportingFile("Client.mustache", sourceFolder, projectName + "Client.swift"));
+        supportingFiles.add(new SupportingFile("Coders.mustache", sourceFolder, projectName + "Coders.swift"));
         supportingFiles.add(new SupportingFile("Error.mustache", sourceFolder, projectName + "Error.swift"));
         supportingFiles.add(new SupportingFile("String.mustache", sourceFolder, "Extensions" + File.separatorChar + "String+" + projectName + ".swift"));
         supportingFiles.add(new SupportingFile("URL.mustache", sourceFolder, "Extensions" + File.separatorChar + "URL+" + projectName + ".swift"));
         supportingFiles.add(new SupportingFile("URLComponents.mustache", sourceFolder, "Extensions" + File.separatorChar + "URLComponents+" + projectName + ".swift"));
         supportingFiles.add(new SupportingFile("URLRequest.mustache", sourceFolder, "Extensions" + File.separatorChar + "URLRequest+" + projectName + ".swift"));
         supportingFiles.add(new SupportingFile("URLSession.mustache", sourceFolder, "Extensions" + File.separatorChar + "URLSession+" + projectName + ".swift"));
+        if (responseCache) {
+            supportingFiles.add(new SupportingFile("ResponseCache.mustache", sourceFolder, projectName + "ResponseCache.swift"));
+        }
+        if (coalesceRequests) {
+            supportingFiles.add(new SupportingFile("RequestCoalescer.mustache", sourceFolder, projectName + "RequestCoalescer.swift"));
+        }
+        if (asyncAwait) {
+            supportingFiles.add(new SupportingFile("Async.mustache", sourceFolder, projectName + "Client+Async.swift"));
+        }
+        if (requestMetrics) {
+            supportingFiles.add(new SupportingFile("RequestMetrics.mustache", sourceFolder, projectName + "RequestMetrics.swift"));
+        }
+        if (requestScheduler) {
+            supportingFiles.add(new SupportingFile("RequestScheduler.mustache", sourceFolder, projectName + "RequestScheduler.swift"));
+        }
+        if (messagePack) {
+            supportingFiles.add(new SupportingFile("MessagePack.mustache", sourceFolder, projectName + "MessagePack.swift"));
+        }
+        if (sharedEnums) {
+            supportingFiles.add(new SupportingFile("modelSharedEnums.mustache", sourceFolder + File.separator + modelPackage(), projectName + "Enums.swift"));
+        }
+        if (streamingArrays) {
+            supportingFiles.add(new SupportingFile("ArrayStream.mustache", sourceFolder, projectName + "ArrayStream.swift"));
+        }
+
+        if (report != null) {
+            report.stage("models");
+        }
     }
 
     public void setProjectName(String projectName) {
@@ -279,6 +552,280 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
         this.objcCompatible = objcCompatible;
     }
 
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public void setStreamingModels(boolean streamingModels) {
+        this.streamingModels = streamingModels;
+    }
+
+    public void setResponseCache(boolean responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    public void setStreamingArrays(boolean streamingArrays) {
+        this.streamingArrays = streamingArrays;
+    }
+
+    public void setAsyncAwait(boolean asyncAwait) {
+        this.asyncAwait = asyncAwait;
+    }
+
+    public void setCallbackApi(boolean callbackApi) {
+        this.callbackApi = callbackApi;
+    }
+
+    public void setRequestMetrics(boolean requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    public void setRequestScheduler(boolean requestScheduler) {
+        this.requestScheduler = requestScheduler;
+    }
+
+    public void setMessagePack(boolean messagePack) {
+        this.messagePack = messagePack;
+    }
+
+    public void setInstrumentation(boolean instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    public void setModelShards(int modelShards) {
+        this.modelShards = modelShards;
+    }
+
+    public void setOperationShards(int operationShards) {
+        this.operationShards = operationShards;
+    }
+
+    public void setSelectedOperations(String selectedOperations) {
+        this.selectedOperations.clear();
+        for (String selector : StringUtils.split(selectedOperations, ",; ")) {
+            this.selectedOperations.add(selector);
+        }
+    }
+
+    public void setSelectExtension(String selectExtension) {
+        this.selectExtension = StringUtils.trimToNull(selectExtension);
+    }
+
+    public void setSharedEnums(boolean sharedEnums) {
+        this.sharedEnums = sharedEnums;
+    }
+
+    public void setNamingCacheSize(int namingCacheSize) {
+        this.enumVarNameCache = new NamingCache(namingCacheSize);
+        this.enumNameCache = new NamingCache(namingCacheSize);
+        this.operationIdCache = new NamingCache(namingCacheSize);
+    }
+
+    /**
+     * Reads the source of a template the same way {@link io.swagger.codegen.DefaultGenerator} resolves it:
+     * from the template directory if the file exists there, from the embedded templates otherwise.
+     */
+    protected String readTemplateSource(String templateName) {
+        return templates.source(templateDir(), embeddedTemplateDir(), templateName);
+    }
+
+    /**
+     * Shares loaded templates with other generator instances, e.g. across runs of the {@link SwiftLWDaemon}.
+     */
+    void setTemplateRegistry(TemplateRegistry templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * Compiles every template and partial only once, see {@link TemplateRegistry}.
+     */
+    @Override
+    public Mustache.Compiler processCompiler(Mustache.Compiler compiler) {
+        return new TemplateRegistry.CachingCompiler(super.processCompiler(compiler), templates, templateDir(), embeddedTemplateDir());
+    }
+
+    /**
+     * Called by {@link io.swagger.codegen.DefaultGenerator} right before it renders a file.
+     *
+     * In incremental mode, files whose fingerprint matches the manifest of the previous run are skipped.
+     * With a parallelism above 1, model and API files are handed to the {@link OutputRenderer}
+     * and skipped by {@code DefaultGenerator}. Models written by {@link #streamModels(Map)} are always skipped.
+     * With instrumentation, the remaining files are rendered here, so their templates can be timed.
+     */
+    @Override
+    public boolean shouldOverwrite(String filename) {
+        if (streamedFiles.contains(filename) || !super.shouldOverwrite(filename)) {
+            return false;
+        }
+        OutputFile output = outputFiles.get(filename);
+        if (output == null) {
+            return true;
+        }
+        if (manifest != null && manifest.record(filename, fingerprinter.fingerprint(output))) {
+            LOGGER.info("Unchanged " + filename);
+            if (report != null) {
+                report.unchanged();
+            }
+            return false;
+        }
+        if (renderer != null && output.kind != OutputFile.Kind.SUPPORTING) {
+            if (output.kind == OutputFile.Kind.API) {
+                // DefaultGenerator only skips API files which already exist
+                createPlaceholder(filename);
+            }
+            renderer.submit(output);
+            return false;
+        }
+        if (report != null) {
+            try {
+                directRenderer.render(output);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not generate " + filename, e);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static void createPlaceholder(String filename) {
+        File file = new File(filename);
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            file.createNewFile();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create " + filename, e);
+        }
+    }
+
+    @Override
+    public void preprocessSwagger(Swagger swagger) {
+        long start = System.nanoTime();
+        super.preprocessSwagger(swagger);
+        if (!selectedOperations.isEmpty() || selectExtension != null) {
+            pruneSwagger(swagger);
+        }
+        if (report != null) {
+            report.hook("preprocessSwagger", start);
+        }
+    }
+
+    /**
+     * Removes the operations which are not selected, and the definitions which none of the selected operations
+     * can reach, see {@link ModelReachability}. Everything after this only sees the pruned spec.
+     */
+    protected void pruneSwagger(Swagger swagger) {
+        ModelReachability reachability = new ModelReachability(swagger);
+        int operations = 0;
+        int selected = 0;
+        if (swagger.getPaths() != null) {
+            for (Iterator<Path> paths = swagger.getPaths().values().iterator(); paths.hasNext(); ) {
+                Path path = paths.next();
+                for (Map.Entry<HttpMethod, Operation> entry : path.getOperationMap().entrySet()) {
+                    operations++;
+                    if (isSelected(entry.getValue())) {
+                        selected++;
+                        reachability.addOperation(path, entry.getValue());
+                    } else {
+                        path.set(entry.getKey().name().toLowerCase(Locale.ROOT), null);
+                    }
+                }
+                if (path.getOperations().isEmpty()) {
+                    paths.remove();
+                }
+            }
+        }
+
+        Set<String> reachable = reachability.reachable();
+        int models = 0;
+        if (swagger.getDefinitions() != null) {
+            models = swagger.getDefinitions().size();
+            swagger.getDefinitions().keySet().retainAll(reachable);
+        }
+        LOGGER.info("Selected " + selected + " of " + operations + " operations, generating "
+            + (swagger.getDefinitions() == null ? 0 : swagger.getDefinitions().size()) + " of " + models + " models");
+    }
+
+    protected boolean isSelected(Operation operation) {
+        if (operation.getOperationId() != null && selectedOperations.contains(operation.getOperationId())) {
+            return true;
+        }
+        if (operation.getTags() != null) {
+            for (String tag : operation.getTags()) {
+                if (selectedOperations.contains(tag)) {
+                    return true;
+                }
+            }
+        }
+        if (selectExtension != null && operation.getVendorExtensions() != null) {
+            Object value = operation.getVendorExtensions().get(selectExtension);
+            return value != null && !Boolean.FALSE.equals(value) && !"false".equals(value);
+        }
+        return false;
+    }
+
+    @Override
+    public void processSwagger(Swagger swagger) {
+        if (report != null) {
+            report.stage("finish");
+        }
+        super.processSwagger(swagger);
+
+        if (renderer != null) {
+            try {
+                renderer.await();
+            } finally {
+                renderer.shutdown();
+            }
+        }
+
+        if (manifest != null) {
+            if (isSelectiveGeneration()) {
+                manifest.retainPrevious();
+            } else {
+                manifest.deleteStale();
+            }
+            try {
+                manifest.save();
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write " + GenerationManifest.FILE_NAME, e);
+            }
+        }
+
+        LOGGER.info("Naming cache toEnumVarName: " + enumVarNameCache);
+        LOGGER.info("Naming cache toEnumName: " + enumNameCache);
+        LOGGER.info("Naming cache toOperationId: " + operationIdCache);
+
+        if (report != null) {
+            writeReport();
+        }
+    }
+
+    protected void writeReport() {
+        Map<String, Object> options = new LinkedHashMap<String, Object>();
+        options.put("inputSpec", getInputSpec());
+        options.put(PARALLELISM, parallelism);
+        options.put(STREAMING_MODELS, streamingModels);
+        options.put(INCREMENTAL, incremental);
+        options.put(MODEL_SHARDS, modelShards);
+        options.put(OPERATION_SHARDS, operationShards);
+        try {
+            File file = report.write(new File(outputFolder), options);
+            LOGGER.info("Wrote generation report to " + file);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write " + GenerationReport.FILE_NAME, e);
+        }
+    }
+
     /**
      * Escapes a reserved word as defined in the `reservedWords` array.
      * Handle escaping those terms here.
@@ -357,26 +904,34 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
 
     @Override
     public String toEnumVarName(String name, String datatype) {
+        String enumVarName = enumVarNameCache.get(name, datatype);
+        if (enumVarName == null) {
+            enumVarName = enumVarNameCache.put(name, datatype, computeEnumVarName(name, datatype));
+        }
+        return enumVarName;
+    }
+
+    protected String computeEnumVarName(String name, String datatype) {
         if (name.length() == 0) {
             return "empty";
         }
 
-        Pattern startWithNumberPattern = Pattern.compile("^\\d+");
-        Matcher startWithNumberMatcher = startWithNumberPattern.matcher(name);
-        if (startWithNumberMatcher.find()) {
-            String startingNumbers = startWithNumberMatcher.group(0);
-            String nameWithoutStartingNumbers = name.substring(startingNumbers.length());
+        int startingNumbersLength = SwiftIdentifiers.leadingDigits(name);
+        if (startingNumbersLength > 0) {
+            String startingNumbers = name.substring(0, startingNumbersLength);
+            String nameWithoutStartingNumbers = name.substring(startingNumbersLength);
             return "_" + startingNumbers + camelize(nameWithoutStartingNumbers, true);
         }
 
         // for symbol, e.g. $, #
-        if (getSymbolName(name) != null) {
-            return camelize(WordUtils.capitalizeFully(getSymbolName(name).toUpperCase()), true);
+        String symbolName = getSymbolName(name);
+        if (symbolName != null) {
+            return camelize(WordUtils.capitalizeFully(symbolName.toUpperCase()), true);
         }
 
         // Camelize only when we have a structure defined below
-        Boolean camelized = false;
-        if (name.matches("[A-Z][a-z0-9]+[a-zA-Z0-9]*")) {
+        boolean camelized = false;
+        if (SwiftIdentifiers.isCapitalizedWord(name)) {
             name = camelize(name, true);
             camelized = true;
         }
@@ -388,12 +943,8 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
         }
 
         // Check for numerical conversions
-        if ("Int".equals(datatype) || "Int32".equals(datatype) || "Int64".equals(datatype) || "Float".equals(datatype) || "Double".equals(datatype)) {
-            String varName = "number" + camelize(name);
-            varName = varName.replaceAll("-", "minus");
-            varName = varName.replaceAll("\\+", "plus");
-            varName = varName.replaceAll("\\.", "dot");
-            return varName;
+        if (SwiftIdentifiers.NUMERIC_DATATYPES.contains(datatype)) {
+            return SwiftIdentifiers.spellNumberSigns("number" + camelize(name));
         }
 
         // If we have already camelized the word, don't progress
@@ -402,12 +953,19 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
             return name;
         }
 
-        char[] separators = {'-', '_', ' ', ':', '(', ')'};
-        return camelize(WordUtils.capitalizeFully(StringUtils.lowerCase(name), separators).replaceAll("[-_ :\\(\\)]", ""), true);
+        return camelize(SwiftIdentifiers.joinCapitalizedWords(name), true);
     }
 
     @Override
     public String toEnumName(CodegenProperty property) {
+        String enumName = enumNameCache.get(property.name, property.datatypeWithEnum);
+        if (enumName == null) {
+            enumName = enumNameCache.put(property.name, property.datatypeWithEnum, computeEnumName(property));
+        }
+        return enumName;
+    }
+
+    protected String computeEnumName(CodegenProperty property) {
         String enumName = toModelName(property.name);
 
         // Ensure that the enum type doesn't match a reserved word or
@@ -419,7 +977,7 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
 
         // TODO: toModelName already does something for names starting with number,
         // so this code is probably never called
-        if (enumName.matches("\\d.*")) { // starts with number
+        if (SwiftIdentifiers.startsWithDigit(enumName)) {
             return "_" + enumName;
         } else {
             return enumName;
@@ -442,6 +1000,18 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
 
     @Override
     public String toOperationId(String operationId) {
+        if (report != null) {
+            // DefaultGenerator names the operations first when it processes the paths
+            report.stage("apis");
+        }
+        String cached = operationIdCache.get(operationId, null);
+        if (cached == null) {
+            cached = operationIdCache.put(operationId, null, computeOperationId(operationId));
+        }
+        return cached;
+    }
+
+    protected String computeOperationId(String operationId) {
         operationId = camelize(sanitizeName(operationId), true);
 
         // Throw exception if method name is empty.
@@ -520,6 +1090,7 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
      */
     @Override
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
+        long start = System.nanoTime();
         Map<String, Object> postProcessedModelsEnum = postProcessModelsEnum(objs);
         List<Object> models = (List<Object>) postProcessedModelsEnum.get("models");
         for (Object _mo : models) {
@@ -533,14 +1104,548 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
                 }
             }
             if (modelHasPropertyWithEscapedName) {
+                // the map belongs to the swagger model, don't write through to it
+                cm.vendorExtensions = new HashMap<String, Object>(cm.vendorExtensions);
                 cm.vendorExtensions.put("x-codegen-has-escaped-property-names", true);
             }
+            markFullDates(cm);
+            if (streamingArrays && cm.isArrayModel) {
+                String element = arrayElementType(cm.parent);
+                if (element != null) {
+                    arrayModelElements.put(cm.classname, element);
+                }
+            }
+        }
+        if (streamingModels) {
+            streamModels(postProcessedModelsEnum);
+        }
+        if (report != null) {
+            report.hook("postProcessModels", start);
         }
         return postProcessedModelsEnum;
     }
 
+    /**
+     * The date encoding strategy of the coders only gets the {@code Date}, so it can't tell properties with format
+     * date from date-time properties. Models with such properties encode them as full-date strings themselves.
+     */
+    protected void markFullDates(CodegenModel cm) {
+        boolean hasFullDates = false;
+        for (CodegenProperty prop : cm.allVars) {
+            String expression = fullDateExpression(prop);
+            if (expression != null) {
+                // the map belongs to the swagger property, don't write through to it
+                prop.vendorExtensions = new HashMap<String, Object>(prop.vendorExtensions);
+                prop.vendorExtensions.put(FULL_DATE_EXTENSION, expression);
+                hasFullDates = true;
+            }
+        }
+        if (hasFullDates) {
+            // the map belongs to the swagger model, don't write through to it
+            cm.vendorExtensions = new HashMap<String, Object>(cm.vendorExtensions);
+            cm.vendorExtensions.put(HAS_FULL_DATES_EXTENSION, true);
+        }
+    }
+
+    /**
+     * @return the Swift expression converting the value of a property with format date, or an array or map of them,
+     *         to full-date strings, {@code null} for other properties.
+     */
+    private String fullDateExpression(CodegenProperty prop) {
+        String encode = projectName + "Coders.fullDateString";
+        if (prop.isDate && !prop.isContainer) {
+            return prop.required ? encode + "(" + prop.name + ")" : prop.name + ".map(" + encode + ")";
+        }
+        if (prop.isContainer && prop.items != null && prop.items.isDate && !prop.items.isContainer) {
+            String transform = prop.isMapContainer ? "mapValues" : "map";
+            return prop.required
+                ? prop.name + "." + transform + "(" + encode + ")"
+                : prop.name + ".map { $0." + transform + "(" + encode + ") }";
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, Object> postProcessModelsEnum(Map<String, Object> objs) {
+        long start = System.nanoTime();
+        Map<String, Object> postProcessedModelsEnum = super.postProcessModelsEnum(objs);
+        if (report != null) {
+            report.hook("postProcessModelsEnum", start);
+        }
+        return postProcessedModelsEnum;
+    }
+
+    /**
+     * Writes the files of a model right after it was processed, then replaces the model with a stub
+     * which only keeps the names other files refer to.
+     *
+     * {@link io.swagger.codegen.DefaultGenerator} holds on to all models until it has processed the last one,
+     * so without this the memory needed grows with the size of the spec rather than the size of the largest model.
+     * The data is the same {@code DefaultGenerator} would render the model with; the Swagger model itself
+     * stays in memory for the whole run either way.
+     */
+    protected void streamModels(Map<String, Object> objs) {
+        List<Object> models = (List<Object>) objs.get("models");
+        for (Object _mo : models) {
+            Map<String, Object> mo = (Map<String, Object>) _mo;
+            CodegenModel cm = (CodegenModel) mo.get("model");
+
+            // same data as DefaultGenerator#generateModels
+            Map<String, Object> data = new HashMap<String, Object>(objs);
+            data.put("classname", toModelName(cm.name));
+            data.putAll(additionalProperties());
+            data.put("modelPackage", modelPackage());
+
+            for (Map.Entry<String, String> template : modelTemplateFiles().entrySet()) {
+                String filename = modelFileFolder() + File.separator + toModelFilename(cm.name) + template.getValue();
+                streamedFiles.add(filename);
+                OutputFile output = new OutputFile(OutputFile.Kind.MODEL, filename, template.getKey(), data);
+                if (!super.shouldOverwrite(filename)) {
+                    continue;
+                }
+                if (manifest != null && manifest.record(filename, fingerprinter.fingerprint(output))) {
+                    LOGGER.info("Unchanged " + filename);
+                    continue;
+                }
+                try {
+                    directRenderer.render(output);
+                } catch (IOException e) {
+                    throw new RuntimeException("Could not generate model '" + cm.name + "'", e);
+                }
+            }
+
+            mo.put("model", stub(cm));
+        }
+    }
+
+    private static CodegenModel stub(CodegenModel cm) {
+        CodegenModel stub = new CodegenModel();
+        stub.name = cm.name;
+        stub.classname = cm.classname;
+        stub.classVarName = cm.classVarName;
+        stub.classFilename = cm.classFilename;
+        stub.dataType = cm.dataType;
+        stub.parent = cm.parent;
+        stub.isEnum = cm.isEnum;
+        stub.isAlias = cm.isAlias;
+        return stub;
+    }
+
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        long start = System.nanoTime();
+        Map<String, Object> allProcessedModels = super.postProcessAllModels(objs);
+        if (sharedEnums) {
+            shareInlineEnums(allProcessedModels);
+        }
+        if (!streamingModels) {
+            for (Map.Entry<String, Object> entry : allProcessedModels.entrySet()) {
+                for (Map.Entry<String, String> template : modelTemplateFiles().entrySet()) {
+                    String filename = modelFileFolder() + File.separator + toModelFilename(entry.getKey()) + template.getValue();
+                    registerOutputFile(OutputFile.Kind.MODEL, filename, template.getKey(), (Map<String, Object>) entry.getValue());
+                }
+            }
+        }
+        if (modelShards > 0) {
+            writeModelShards(allProcessedModels);
+        }
+        if (report != null) {
+            report.hook("postProcessAllModels", start);
+        }
+        return allProcessedModels;
+    }
+
+    /**
+     * Replaces identical inline enums of several models by shared top-level enums, see {@link SharedEnums}.
+     */
+    protected void shareInlineEnums(Map<String, Object> allProcessedModels) {
+        List<CodegenModel> models = new ArrayList<CodegenModel>();
+        Set<String> reservedNames = new HashSet<String>();
+        for (Object modelObjs : allProcessedModels.values()) {
+            for (Object _mo : (List<Object>) ((Map<String, Object>) modelObjs).get("models")) {
+                CodegenModel cm = (CodegenModel) ((Map<String, Object>) _mo).get("model");
+                models.add(cm);
+                reservedNames.add(cm.classname);
+            }
+        }
+        reservedNames.add(projectName + "Client");
+        reservedNames.add(projectName + "Error");
+        sharedEnumDeclarations = SharedEnums.share(models, reservedNames);
+        LOGGER.info("Shared " + sharedEnumDeclarations.size() + " inline enums between models");
+    }
+
+    @Override
+    public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
+        long start = System.nanoTime();
+        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+        List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+        for (CodegenOperation op : ops) {
+            // the map belongs to the swagger operation, don't write through to it
+            op.vendorExtensions = new HashMap<String, Object>(op.vendorExtensions);
+
+            for (CodegenParameter param : op.allParams) {
+                trackDateFormats(param.isDate, param.isDateTime);
+                trackDateFormats(param.items);
+                if (param.isQueryParam) {
+                    // the map belongs to the swagger parameter, don't write through to it
+                    param.vendorExtensions = new HashMap<String, Object>(param.vendorExtensions);
+                    param.vendorExtensions.put(QUERY_NAME_EXTENSION, percentEncode(param.baseName, QUERY_NAME_CHARACTERS));
+                }
+            }
+            op.vendorExtensions.put(PATH_EXTENSION, pathTemplate(op));
+            for (CodegenResponse response : op.responses) {
+                trackDateFormats(response.isDate, response.isDateTime);
+            }
+            normalizeCacheTTL(op);
+            normalizePriority(op);
+            // an operation may opt out with x-swiftlw-coalesce: false, the templates only check for the key being truthy
+            Object coalesce = op.vendorExtensions.remove(COALESCE_EXTENSION);
+            if (coalesceRequests && !Boolean.FALSE.equals(coalesce) && !"false".equals(coalesce)
+                && SAFE_METHODS.contains(op.httpMethod.toUpperCase(Locale.ROOT))) {
+                op.vendorExtensions.put(COALESCE_EXTENSION, true);
+            }
+            if (requestMetrics) {
+                op.vendorExtensions.put(METRICS_TAG_EXTENSION, op.tags == null || op.tags.isEmpty() ? op.baseName : op.tags.get(0).getName());
+            }
+            if (streamingArrays && op.returnType != null) {
+                String element = arrayModelElements.containsKey(op.returnType)
+                    ? arrayModelElements.get(op.returnType) : arrayElementType(op.returnType);
+                if (element != null) {
+                    op.vendorExtensions.put(STREAMING_ELEMENT_EXTENSION, element);
+                }
+            }
+        }
+        if (operationShards > 0) {
+            // DefaultGenerator adds the additional properties to the map after this hook
+            shardedApis.add(objs);
+        } else if (!ops.isEmpty()) {
+            String tag = ops.get(0).baseName;
+            for (String templateName : apiTemplateFiles().keySet()) {
+                registerOutputFile(OutputFile.Kind.API, apiFilename(templateName, tag), templateName, objs);
+            }
+        }
+        Map<String, Object> postProcessedOperations = super.postProcessOperations(objs);
+        if (report != null) {
+            report.hook("postProcessOperations", start);
+        }
+        return postProcessedOperations;
+    }
+
+    /**
+     * Writes the models in {@link #modelShards} files instead of a file per model, see {@link ShardPlanner}.
+     * Models are weighed by their number of properties and kept together with the models they refer to.
+     */
+    protected void writeModelShards(Map<String, Object> allProcessedModels) {
+        ShardPlanner<Object> planner = new ShardPlanner<Object>();
+        for (Object modelObjs : allProcessedModels.values()) {
+            for (Object _mo : (List<Object>) ((Map<String, Object>) modelObjs).get("models")) {
+                CodegenModel cm = (CodegenModel) ((Map<String, Object>) _mo).get("model");
+                Set<String> references = new HashSet<String>();
+                String element = arrayElementType(cm.parent);
+                references.add(element != null ? element : cm.parent);
+                references.add(cm.additionalPropertiesType);
+                for (CodegenProperty property : cm.allVars) {
+                    for (CodegenProperty p = property; p != null; p = p.items) {
+                        references.add(p.complexType);
+                    }
+                }
+                planner.add(cm.classname, 1 + cm.allVars.size(), references, _mo);
+            }
+        }
+
+        List<List<Object>> shards = planner.plan(modelShards);
+        for (int i = 0; i < shards.size(); i++) {
+            String shardName = shardName(projectName + "Models", i, shards.size());
+            Map<String, Object> data = new HashMap<String, Object>(additionalProperties());
+            data.put("modelPackage", modelPackage());
+            data.put("shardName", shardName);
+            data.put("models", shards.get(i));
+            writeShard(new OutputFile(OutputFile.Kind.MODEL, modelFileFolder() + File.separator + shardName + ".swift", "modelShard.mustache", data));
+        }
+    }
+
+    /**
+     * Writes the operations of all tags in {@link #operationShards} files instead of a file per tag, see {@link ShardPlanner}.
+     * Operations are weighed by their number of parameters and kept together with the operations of the same tag
+     * and the operations using the same models.
+     */
+    protected void writeOperationShards() {
+        // operations by the index of their tag in shardedApis
+        ShardPlanner<Map.Entry<Integer, CodegenOperation>> planner = new ShardPlanner<Map.Entry<Integer, CodegenOperation>>();
+        for (int i = 0; i < shardedApis.size(); i++) {
+            Map<String, Object> operations = (Map<String, Object>) shardedApis.get(i).get("operations");
+            for (CodegenOperation op : (List<CodegenOperation>) operations.get("operation")) {
+                Set<String> references = new HashSet<String>();
+                references.add(op.baseName);
+                references.add(op.returnBaseType);
+                for (CodegenParameter param : op.allParams) {
+                    references.add(param.baseType);
+                }
+                planner.add(op.baseName + "." + op.operationId, 1 + op.allParams.size(), references,
+                    new AbstractMap.SimpleImmutableEntry<Integer, CodegenOperation>(i, op));
+            }
+        }
+
+        List<List<Map.Entry<Integer, CodegenOperation>>> shards = planner.plan(operationShards);
+        for (int i = 0; i < shards.size(); i++) {
+            // one entry per tag, with the operations of the tag in this shard
+            SortedMap<Integer, List<CodegenOperation>> byApi = new TreeMap<Integer, List<CodegenOperation>>();
+            for (Map.Entry<Integer, CodegenOperation> unit : shards.get(i)) {
+                List<CodegenOperation> ops = byApi.get(unit.getKey());
+                if (ops == null) {
+                    ops = new ArrayList<CodegenOperation>();
+                    byApi.put(unit.getKey(), ops);
+                }
+                ops.add(unit.getValue());
+            }
+            List<Map<String, Object>> apis = new ArrayList<Map<String, Object>>();
+            for (Map.Entry<Integer, List<CodegenOperation>> entry : byApi.entrySet()) {
+                // the additional properties are in the shard's data already
+                Map<String, Object> api = new HashMap<String, Object>();
+                for (Map.Entry<String, Object> value : shardedApis.get(entry.getKey()).entrySet()) {
+                    if (!additionalProperties().containsKey(value.getKey())) {
+                        api.put(value.getKey(), value.getValue());
+                    }
+                }
+                Map<String, Object> operations = new HashMap<String, Object>((Map<String, Object>) api.get("operations"));
+                operations.put("operation", entry.getValue());
+                api.put("operations", operations);
+                apis.add(api);
+            }
+
+            String shardName = shardName(projectName + "Client+Operations", i, shards.size());
+            Map<String, Object> data = new HashMap<String, Object>(additionalProperties());
+            data.put("apiPackage", apiPackage());
+            data.put("shardName", shardName);
+            data.put("apis", apis);
+            writeShard(new OutputFile(OutputFile.Kind.API, apiFileFolder() + File.separator + shardName + ".swift", "operationShard.mustache", data));
+        }
+        shardedApis.clear();
+    }
+
+    /**
+     * @return the name of a shard file, numbered from 1 and padded to sort by number.
+     */
+    static String shardName(String prefix, int index, int count) {
+        String number = String.valueOf(index + 1);
+        return prefix + StringUtils.leftPad(number, String.valueOf(count).length(), '0');
+    }
+
+    /**
+     * Renders a shard file, on the pool if there is one.
+     * Shard files are never seen by {@link io.swagger.codegen.DefaultGenerator}, so the checks of {@link #shouldOverwrite(String)} are repeated here.
+     */
+    protected void writeShard(OutputFile output) {
+        if (!super.shouldOverwrite(output.filename)) {
+            return;
+        }
+        if (manifest != null && manifest.record(output.filename, fingerprinter.fingerprint(output))) {
+            LOGGER.info("Unchanged " + output.filename);
+            if (report != null) {
+                report.unchanged();
+            }
+            return;
+        }
+        if (renderer != null) {
+            renderer.submit(output);
+            return;
+        }
+        try {
+            directRenderer.render(output);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not generate " + output.filename, e);
+        }
+    }
+
+    /**
+     * Turns the path of an operation into the body of a Swift string literal, which interpolates
+     * the percent-encoded path parameters into the path, e.g. {@code /pet/{petId}} into
+     * {@code /pet/\(URLComponents.percentEncodedPathParameter(petId))}.
+     *
+     * The literal parts are percent-encoded here, so building the path of a request takes a single interpolation.
+     */
+    protected String pathTemplate(CodegenOperation op) {
+        Map<String, CodegenParameter> pathParams = new HashMap<String, CodegenParameter>();
+        for (CodegenParameter param : op.pathParams) {
+            pathParams.put(param.baseName, param);
+        }
+        String path = op.path == null ? "" : op.path;
+        StringBuilder template = new StringBuilder(path.length() + 64 * pathParams.size());
+        int start = 0;
+        while (start < path.length()) {
+            int open = path.indexOf('{', start);
+            int close = open < 0 ? -1 : path.indexOf('}', open);
+            if (close < 0) {
+                template.append(percentEncode(path.substring(start), PATH_CHARACTERS));
+                break;
+            }
+            template.append(percentEncode(path.substring(start, open), PATH_CHARACTERS));
+            CodegenParameter param = pathParams.get(path.substring(open + 1, close));
+            if (param == null) {
+                LOGGER.warn("No path parameter " + path.substring(open, close + 1) + " in operation " + op.operationId + ", keeping it in the path");
+                template.append(percentEncode(path.substring(open, close + 1), PATH_CHARACTERS));
+            } else {
+                template.append("\\(URLComponents.percentEncodedPathParameter(").append(param.paramName);
+                if (param.isEnum && !param.isContainer) {
+                    template.append(".rawValue");
+                }
+                template.append("))");
+            }
+            start = close + 1;
+        }
+        return template.toString();
+    }
+
+    /**
+     * Percent-encodes the UTF-8 bytes of all characters but letters, digits and the given characters.
+     */
+    static String percentEncode(String value, String allowed) {
+        StringBuilder encoded = null;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xff;
+            boolean keep = b < 0x80 && (Character.isLetterOrDigit(b) || allowed.indexOf(b) >= 0);
+            if (keep && encoded == null) {
+                continue;
+            }
+            if (encoded == null) {
+                // bytes before i are all ASCII, so they are the first i characters
+                encoded = new StringBuilder(bytes.length + 16).append(value, 0, i);
+            }
+            if (keep) {
+                encoded.append((char) b);
+            } else {
+                encoded.append('%').append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0xf]);
+            }
+        }
+        return encoded == null ? value : encoded.toString();
+    }
+
+    /**
+     * @return the element type of a Swift array type like {@code [Pet]}, or {@code null} for any other type.
+     */
+    static String arrayElementType(String type) {
+        if (type == null || type.length() < 3 || type.charAt(0) != '[' || type.charAt(type.length() - 1) != ']') {
+            return null;
+        }
+        // [String: Pet] is a dictionary, a colon nested in the element type doesn't matter
+        int depth = 0;
+        for (int i = 1; i < type.length() - 1; i++) {
+            char c = type.charAt(i);
+            if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == ':' && depth == 0) {
+                return null;
+            }
+        }
+        return type.substring(1, type.length() - 1);
+    }
+
+    /**
+     * Checks the {@code x-swiftlw-cache-ttl} of an operation and writes it back as a plain number of seconds,
+     * ready to be used as a {@code TimeInterval} literal. Invalid values and values on operations
+     * other than GET are dropped with a warning.
+     */
+    protected void normalizeCacheTTL(CodegenOperation op) {
+        Object value = op.vendorExtensions.get(CACHE_TTL_EXTENSION);
+        if (value == null) {
+            return;
+        }
+        op.vendorExtensions.remove(CACHE_TTL_EXTENSION);
+
+        if (!"GET".equalsIgnoreCase(op.httpMethod)) {
+            LOGGER.warn("Ignoring " + CACHE_TTL_EXTENSION + " of " + op.httpMethod + " operation " + op.operationId + ", only GET responses are cached");
+            return;
+        }
+        double seconds;
+        try {
+            seconds = Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException e) {
+            seconds = -1;
+        }
+        if (seconds < 0 || Double.isInfinite(seconds) || Double.isNaN(seconds)) {
+            LOGGER.warn("Ignoring " + CACHE_TTL_EXTENSION + " of operation " + op.operationId + ", expected a number of seconds but got " + value);
+            return;
+        }
+        op.vendorExtensions.put(CACHE_TTL_EXTENSION, seconds == Math.rint(seconds) ? String.valueOf((long) seconds) : String.valueOf(seconds));
+    }
+
+    /**
+     * Checks the {@code x-swiftlw-priority} of an operation and writes it back as the name of a case of
+     * {@code RequestScheduler.Priority}, {@code normal} if it is not set. Invalid values are dropped with a warning.
+     * Without the scheduler, the extension is removed.
+     */
+    protected void normalizePriority(CodegenOperation op) {
+        Object value = op.vendorExtensions.remove(PRIORITY_EXTENSION);
+        if (!requestScheduler) {
+            return;
+        }
+        String priority = value == null ? "normal" : value.toString().trim().toLowerCase(Locale.ROOT);
+        if (!PRIORITIES.contains(priority)) {
+            LOGGER.warn("Ignoring " + PRIORITY_EXTENSION + " of operation " + op.operationId + ", expected one of " + PRIORITIES + " but got " + value);
+            priority = "normal";
+        }
+        op.vendorExtensions.put(PRIORITY_EXTENSION, priority);
+    }
+
+    @Override
+    public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        if (operationShards > 0) {
+            writeOperationShards();
+        }
+
+        // supporting files are rendered one at a time, after all models and APIs are written
+        if (renderer != null) {
+            renderer.await();
+        }
+        if (report != null) {
+            report.stage("supportingFiles");
+        }
+        long start = System.nanoTime();
+
+        // Used by Coders.mustache to pick the date strategies.
+        objs.put("hasDateFormat", hasDateFormat);
+        objs.put("hasDateTimeFormat", hasDateTimeFormat);
+        objs.put("hasDateFormats", hasDateFormat || hasDateTimeFormat);
+
+        // Used by modelSharedEnums.mustache.
+        objs.put("sharedEnums", sharedEnumDeclarations);
+
+        for (SupportingFile supportingFile : supportingFiles()) {
+            String folder = outputFolder();
+            if (StringUtils.isNotEmpty(supportingFile.folder)) {
+                folder += File.separator + supportingFile.folder;
+            }
+            String filename = folder + File.separator + supportingFile.destinationFilename.replace('/', File.separatorChar);
+            registerOutputFile(OutputFile.Kind.SUPPORTING, filename, supportingFile.templateFile, objs);
+        }
+
+        Map<String, Object> postProcessedObjs = super.postProcessSupportingFileData(objs);
+        if (report != null) {
+            report.hook("postProcessSupportingFileData", start);
+        }
+        return postProcessedObjs;
+    }
+
+    protected void registerOutputFile(OutputFile.Kind kind, String filename, String templateName, Map<String, Object> data) {
+        outputFiles.put(filename, new OutputFile(kind, filename, templateName, data));
+    }
+
+    /**
+     * @return whether only some of the models, APIs or supporting files are generated,
+     *         as selected by the {@code models}, {@code apis} and {@code supportingFiles} system properties.
+     */
+    protected static boolean isSelectiveGeneration() {
+        return System.getProperty("models") != null
+            || System.getProperty("apis") != null
+            || System.getProperty("supportingFiles") != null;
+    }
+
     @Override
     public void postProcessModelProperty(CodegenModel model, CodegenProperty property) {
+        long start = System.nanoTime();
         super.postProcessModelProperty(model, property);
 
         // The default template code has the following logic for
@@ -564,6 +1669,22 @@ public class SwiftLWGenerator extends DefaultCodegen implements CodegenConfig {
             // which provide Objective-C compatibility.
             property.vendorExtensions.put("x-swift-optional-scalar", true);
         }
+
+        trackDateFormats(property);
+        if (report != null) {
+            report.hook("postProcessModelProperty", start);
+        }
+    }
+
+    private void trackDateFormats(CodegenProperty property) {
+        for (CodegenProperty p = property; p != null; p = p.items) {
+            trackDateFormats(p.isDate, p.isDateTime);
+        }
+    }
+
+    private void trackDateFormats(boolean isDate, boolean isDateTime) {
+        hasDateFormat |= isDate;
+        hasDateTimeFormat |= isDateTime;
     }
 
 }
@@ -0,0 +1,305 @@
+package de.cargath.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Loads and compiles every template once per generator instance. The {@link SwiftLWDaemon} shares the loaded
+ * sources across runs, see {@link #withSharedSources()}.
+ *
+ * {@link io.swagger.codegen.DefaultGenerator} reads and compiles the template again for every model and API,
+ * and every included partial along with it. The {@link CachingCompiler} handed out by
+ * {@link SwiftLWGenerator#processCompiler(Mustache.Compiler)} looks up compiled templates here instead.
+ * Compiled templates are cached by their source and the settings of the compiler, and partials are always
+ * resolved through the registry, so the loader a compiler was created with does not matter.
+ */
+final class TemplateRegistry {
+
+    private final Map<String, String> sources;
+    private final Map<Key, Template> templates = new ConcurrentHashMap<Key, Template>();
+
+    TemplateRegistry() {
+        this(new ConcurrentHashMap<String, String>());
+    }
+
+    private TemplateRegistry(Map<String, String> sources) {
+        this.sources = sources;
+    }
+
+    /**
+     * @return a registry which shares the loaded sources with this one and compiles its own templates,
+     *         e.g. for one run of the {@link SwiftLWDaemon}.
+     */
+    TemplateRegistry withSharedSources() {
+        return new TemplateRegistry(sources);
+    }
+
+    /**
+     * @return the source of a template, resolved like {@link io.swagger.codegen.DefaultGenerator} does:
+     *         from the template directory if the file exists there, from the embedded templates otherwise.
+     */
+    String source(String templateDir, String embeddedTemplateDir, String templateName) {
+        String key = templateDir + File.separator + templateName;
+        String source = sources.get(key);
+        if (source == null) {
+            source = load(templateDir, embeddedTemplateDir, templateName);
+            sources.put(key, source);
+        }
+        return source;
+    }
+
+    /**
+     * @return the compiled template for the given source, compiling it with the settings of the given compiler
+     *         the first time they are used together.
+     */
+    Template compile(String source, CachingCompiler compiler) {
+        Key key = new Key(source, compiler);
+        Template template = templates.get(key);
+        if (template == null) {
+            template = compiler.compileUncached(source);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Forgets all sources and compiled templates, e.g. after a template file changed.
+     */
+    void clear() {
+        sources.clear();
+        templates.clear();
+    }
+
+    private String load(String templateDir, String embeddedTemplateDir, String templateName) {
+        File file = new File(templateDir + File.separator + templateName);
+        String embeddedName = embeddedTemplateDir + "/" + templateName;
+        InputStream in = null;
+        try {
+            in = file.isFile() ? new FileInputStream(file) : getClass().getClassLoader().getResourceAsStream(embeddedName);
+            if (in == null) {
+                throw new RuntimeException("can't load template " + templateName);
+            }
+            return IOUtils.toString(in, "UTF-8");
+        } catch (IOException e) {
+            throw new RuntimeException("can't load template " + templateName, e);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * A template source with everything of a compiler which changes how it is compiled and rendered.
+     * The formatter and escaper are compared by identity, DefaultGenerator uses the shared defaults of JMustache.
+     * JMustache does not expose the delimiters, so they are compared as last passed to {@code withDelims}.
+     */
+    private static final class Key {
+        private final String source;
+        private final String templateDir;
+        private final String embeddedTemplateDir;
+        private final boolean standardsMode;
+        private final boolean strictSections;
+        private final String nullValue;
+        private final boolean missingIsNull;
+        private final boolean emptyStringIsFalse;
+        private final boolean zeroIsFalse;
+        private final Mustache.Formatter formatter;
+        private final Mustache.Escaper escaper;
+        private final Class<?> collector;
+        private final String delims;
+        private final int hash;
+
+        Key(String source, CachingCompiler compiler) {
+            this.source = source;
+            this.templateDir = compiler.templateDir;
+            this.embeddedTemplateDir = compiler.embeddedTemplateDir;
+            this.standardsMode = compiler.standardsMode;
+            this.strictSections = compiler.strictSections;
+            this.nullValue = compiler.nullValue;
+            this.missingIsNull = compiler.missingIsNull;
+            this.emptyStringIsFalse = compiler.emptyStringIsFalse;
+            this.zeroIsFalse = compiler.zeroIsFalse;
+            this.formatter = compiler.formatter;
+            this.escaper = compiler.escaper;
+            this.collector = compiler.collector.getClass();
+            this.delims = compiler.delimiters;
+            this.hash = source.hashCode() * 31 + templateDir.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash
+                && source.equals(other.source)
+                && templateDir.equals(other.templateDir)
+                && embeddedTemplateDir.equals(other.embeddedTemplateDir)
+                && standardsMode == other.standardsMode
+                && strictSections == other.strictSections
+                && (nullValue == null ? other.nullValue == null : nullValue.equals(other.nullValue))
+                && missingIsNull == other.missingIsNull
+                && emptyStringIsFalse == other.emptyStringIsFalse
+                && zeroIsFalse == other.zeroIsFalse
+                && formatter == other.formatter
+                && escaper == other.escaper
+                && collector == other.collector
+                && delims.equals(other.delims);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Loads partials through the registry, resolved like {@link io.swagger.codegen.DefaultGenerator} does.
+     * It only refers to the registry and the template folders, so compiled templates don't keep a run alive.
+     */
+    private static final class PartialLoader implements Mustache.TemplateLoader {
+        private final TemplateRegistry registry;
+        private final String templateDir;
+        private final String embeddedTemplateDir;
+
+        PartialLoader(TemplateRegistry registry, String templateDir, String embeddedTemplateDir) {
+            this.registry = registry;
+            this.templateDir = templateDir;
+            this.embeddedTemplateDir = embeddedTemplateDir;
+        }
+
+        @Override
+        public Reader getTemplate(String name) {
+            return new StringReader(registry.source(templateDir, embeddedTemplateDir, name + ".mustache"));
+        }
+    }
+
+    /**
+     * A compiler which compiles every template source only once.
+     *
+     * All variants of this compiler (e.g. {@link #withLoader(Mustache.TemplateLoader)}) share the same registry,
+     * since DefaultGenerator derives its compiler from the one returned by {@code processCompiler}.
+     * Templates are compiled with the registry's {@link PartialLoader} in place of the loader of the compiler,
+     * which in DefaultGenerator holds on to the whole run.
+     */
+    static final class CachingCompiler extends Mustache.Compiler {
+        private final TemplateRegistry registry;
+        private final String templateDir;
+        private final String embeddedTemplateDir;
+        private final String delimiters;
+
+        CachingCompiler(Mustache.Compiler compiler, TemplateRegistry registry, String templateDir, String embeddedTemplateDir) {
+            this(compiler, compiler.loader, registry, templateDir, embeddedTemplateDir, "");
+        }
+
+        private CachingCompiler(Mustache.Compiler compiler, Mustache.TemplateLoader loader, TemplateRegistry registry,
+                                String templateDir, String embeddedTemplateDir, String delimiters) {
+            super(compiler.standardsMode, compiler.strictSections, compiler.nullValue, compiler.missingIsNull,
+                compiler.emptyStringIsFalse, compiler.zeroIsFalse, compiler.formatter, compiler.escaper,
+                loader, compiler.collector, compiler.delims);
+            this.registry = registry;
+            this.templateDir = templateDir;
+            this.embeddedTemplateDir = embeddedTemplateDir;
+            this.delimiters = delimiters;
+        }
+
+        @Override
+        public Template compile(String template) {
+            return registry.compile(template, this);
+        }
+
+        @Override
+        public Template compile(Reader source) {
+            try {
+                return compile(IOUtils.toString(source));
+            } catch (IOException e) {
+                throw new RuntimeException("can't read template", e);
+            }
+        }
+
+        Template compileUncached(String source) {
+            CachingCompiler detached = new CachingCompiler(this, new PartialLoader(registry, templateDir, embeddedTemplateDir),
+                registry, templateDir, embeddedTemplateDir, delimiters);
+            return detached.compileDirectly(source);
+        }
+
+        private Template compileDirectly(String source) {
+            return super.compile(new StringReader(source));
+        }
+
+        private CachingCompiler wrap(Mustache.Compiler compiler) {
+            return wrap(compiler, delimiters);
+        }
+
+        private CachingCompiler wrap(Mustache.Compiler compiler, String delimiters) {
+            return new CachingCompiler(compiler, compiler.loader, registry, templateDir, embeddedTemplateDir, delimiters);
+        }
+
+        @Override
+        public Mustache.Compiler standardsMode(boolean standardsMode) {
+            return wrap(super.standardsMode(standardsMode));
+        }
+
+        @Override
+        public Mustache.Compiler strictSections(boolean strictSections) {
+            return wrap(super.strictSections(strictSections));
+        }
+
+        @Override
+        public Mustache.Compiler defaultValue(String defaultValue) {
+            return wrap(super.defaultValue(defaultValue));
+        }
+
+        @Override
+        public Mustache.Compiler nullValue(String nullValue) {
+            return wrap(super.nullValue(nullValue));
+        }
+
+        @Override
+        public Mustache.Compiler emptyStringIsFalse(boolean emptyStringIsFalse) {
+            return wrap(super.emptyStringIsFalse(emptyStringIsFalse));
+        }
+
+        @Override
+        public Mustache.Compiler zeroIsFalse(boolean zeroIsFalse) {
+            return wrap(super.zeroIsFalse(zeroIsFalse));
+        }
+
+        @Override
+        public Mustache.Compiler withFormatter(Mustache.Formatter formatter) {
+            return wrap(super.withFormatter(formatter));
+        }
+
+        @Override
+        public Mustache.Compiler withEscaper(Mustache.Escaper escaper) {
+            return wrap(super.withEscaper(escaper));
+        }
+
+        @Override
+        public Mustache.Compiler withLoader(Mustache.TemplateLoader loader) {
+            return wrap(super.withLoader(loader));
+        }
+
+        @Override
+        public Mustache.Compiler withCollector(Mustache.Collector collector) {
+            return wrap(super.withCollector(collector));
+        }
+
+        @Override
+        public Mustache.Compiler withDelims(String delims) {
+            return wrap(super.withDelims(delims), delims);
+        }
+    }
+
+}
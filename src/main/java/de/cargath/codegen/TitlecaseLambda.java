@@ -0,0 +1,127 @@
+package de.cargath.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Converts text in a fragment to title case.
+ *
+ * Register:
+ * <pre>
+ * additionalProperties.put("titlecase", new TitlecaseLambda());
+ * </pre>
+ *
+ * Use:
+ * <pre>
+ * {{#titlecase}}{{classname}}{{/titlecase}}
+ * </pre>
+ *
+ * The first character of every word is upper-cased while the text is written; delimiters are kept as they are,
+ * and empty words (e.g. between two consecutive delimiters) are left empty.
+ */
+class TitlecaseLambda extends StreamingLambda {
+    private final char[] delimiter;
+    private final int[] fallback;
+
+    /**
+     * Constructs a new instance of {@link TitlecaseLambda}, which will convert all text
+     * in a space delimited string to title-case.
+     */
+    public TitlecaseLambda() {
+        this(" ");
+    }
+
+    /**
+     * Constructs a new instance of {@link TitlecaseLambda}, splitting on the specified
+     * delimiter and converting each word to title-case.
+     *
+     * NOTE: passing {@code null} results in a title-casing the first word only.
+     *
+     * @param delimiter Provided to allow an override for the default space delimiter.
+     */
+    public TitlecaseLambda(String delimiter) {
+        this.delimiter = delimiter == null || delimiter.isEmpty() ? null : delimiter.toCharArray();
+        this.fallback = this.delimiter == null ? null : fallback(this.delimiter);
+    }
+
+    /**
+     * @return for every prefix of the delimiter, the length of its longest proper prefix which is also a suffix,
+     *         i.e. how much of a partial match survives a mismatch.
+     */
+    private static int[] fallback(char[] delimiter) {
+        int[] fallback = new int[delimiter.length];
+        int length = 0;
+        for (int i = 1; i < delimiter.length; i++) {
+            while (length > 0 && delimiter[i] != delimiter[length]) {
+                length = fallback[length - 1];
+            }
+            if (delimiter[i] == delimiter[length]) {
+                length++;
+            }
+            fallback[i] = length;
+        }
+        return fallback;
+    }
+
+    @Override
+    protected Filter filter(Writer out) {
+        return new TitlecaseFilter(out);
+    }
+
+    private final class TitlecaseFilter extends Filter {
+        // number of characters held back because they might start a delimiter, they equal the delimiter's prefix
+        private int matched;
+        private boolean wordStart = true;
+
+        TitlecaseFilter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        protected void filter(char c) throws IOException {
+            if (delimiter == null) {
+                emit(c);
+                return;
+            }
+            while (true) {
+                if (delimiter[matched] == c) {
+                    if (++matched == delimiter.length) {
+                        out.write(delimiter);
+                        matched = 0;
+                        wordStart = true;
+                    }
+                    return;
+                }
+                if (matched == 0) {
+                    emit(c);
+                    return;
+                }
+                // the oldest held back characters can no longer be part of a delimiter
+                int kept = fallback[matched - 1];
+                release(matched - kept);
+                matched = kept;
+            }
+        }
+
+        @Override
+        protected void finish() throws IOException {
+            release(matched);
+            matched = 0;
+        }
+
+        private void release(int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                emit(delimiter[i]);
+            }
+        }
+
+        private void emit(char c) throws IOException {
+            if (wordStart) {
+                out.write(Character.toUpperCase(c));
+                wordStart = false;
+            } else {
+                out.write(c);
+            }
+        }
+    }
+}
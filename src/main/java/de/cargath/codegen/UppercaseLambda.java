@@ -0,0 +1,30 @@
+package de.cargath.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Converts all of the characters in a fragment to upper case.
+ *
+ * Register:
+ * <pre>
+ * additionalProperties.put("uppercase", new UppercaseLambda());
+ * </pre>
+ *
+ * Use:
+ * <pre>
+ * {{#uppercase}}{{httpMethod}}{{/uppercase}}
+ * </pre>
+ */
+class UppercaseLambda extends StreamingLambda {
+
+    @Override
+    protected Filter filter(Writer out) {
+        return new Filter(out) {
+            @Override
+            protected void filter(char c) throws IOException {
+                out.write(Character.toUpperCase(c));
+            }
+        };
+    }
+}
@@ -0,0 +1,197 @@
+package de.cargath.codegen;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Golden files of the client options, each alone and all together, on the store fixture. It has operations of every HTTP method
+ * and uses the {@code x-swiftlw-*} extensions of the options, also where they have to be ignored.
+ * Where {@code swiftc} is available, the generated sources are parsed as well.
+ */
+public class ClientOptionsGoldenTest {
+
+    private static final String OPERATIONS = "Operations/NetworkClient+Store.swift";
+
+    private static final String[] ALL_OPTIONS = {
+        SwiftLWGenerator.RESPONSE_CACHE,
+        SwiftLWGenerator.COALESCE_REQUESTS,
+        SwiftLWGenerator.STREAMING_ARRAYS,
+        SwiftLWGenerator.ASYNC_AWAIT,
+        SwiftLWGenerator.REQUEST_METRICS,
+        SwiftLWGenerator.REQUEST_SCHEDULER,
+    };
+
+    @Test
+    public void generatesTheResponseCache() throws IOException {
+        File sources = generate("response-cache", SwiftLWGenerator.RESPONSE_CACHE);
+
+        GoldenFiles.assertMatches(sources, "response-cache",
+            "NetworkClient.swift",
+            "NetworkResponseCache.swift",
+            OPERATIONS);
+    }
+
+    @Test(timeout = 600000)
+    public void parsesTheResponseCache() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(generate("response-cache-parse", SwiftLWGenerator.RESPONSE_CACHE));
+    }
+
+    @Test
+    public void generatesTheRequestCoalescer() throws IOException {
+        File sources = generate("coalesce-requests", SwiftLWGenerator.COALESCE_REQUESTS);
+
+        GoldenFiles.assertMatches(sources, "coalesce-requests",
+            "NetworkClient.swift",
+            "NetworkRequestCoalescer.swift",
+            OPERATIONS);
+    }
+
+    @Test
+    public void coalescesOnlyGetHeadAndOptions() throws IOException {
+        // updateOrder (PUT) and placeOrders (POST) ask for it with x-swiftlw-coalesce, getStock opts out
+        File sources = generate("coalesced-methods", SwiftLWGenerator.COALESCE_REQUESTS);
+
+        assertEquals(new TreeSet<String>(Arrays.asList("checkOrder", "getOrder", "listOrders", "orderOptions")),
+            operationsPassing("coalesce: true", new File(sources, OPERATIONS)));
+    }
+
+    @Test(timeout = 600000)
+    public void parsesTheRequestCoalescer() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(generate("coalesce-requests-parse", SwiftLWGenerator.COALESCE_REQUESTS));
+    }
+
+    @Test
+    public void generatesTheArrayStream() throws IOException {
+        File sources = generate("streaming-arrays", SwiftLWGenerator.STREAMING_ARRAYS);
+
+        GoldenFiles.assertMatches(sources, "streaming-arrays",
+            "NetworkArrayStream.swift",
+            OPERATIONS);
+        // getStock returns the array model Stock
+        assertEquals(new TreeSet<String>(Arrays.asList("getStock", "listOrders", "placeOrders")),
+            operationsPassing("batchSize: Int = 100", new File(sources, OPERATIONS)));
+    }
+
+    @Test(timeout = 600000)
+    public void parsesTheArrayStream() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(generate("streaming-arrays-parse", SwiftLWGenerator.STREAMING_ARRAYS));
+    }
+
+    @Test
+    public void generatesTheAsyncVariants() throws IOException {
+        File sources = generate("async-await", SwiftLWGenerator.ASYNC_AWAIT);
+
+        GoldenFiles.assertMatches(sources, "async-await",
+            "NetworkClient+Async.swift",
+            OPERATIONS);
+    }
+
+    @Test
+    public void generatesOnlyTheAsyncVariants() throws IOException {
+        Map<String, String> additionalProperties = new HashMap<String, String>();
+        additionalProperties.put(SwiftLWGenerator.ASYNC_AWAIT, Boolean.TRUE.toString());
+        additionalProperties.put(SwiftLWGenerator.CALLBACK_API, Boolean.FALSE.toString());
+        File sources = GoldenFiles.generate("store.yaml", "async-only", additionalProperties);
+
+        GoldenFiles.assertMatches(sources, "async-only", OPERATIONS);
+        assertEquals(Collections.emptySet(), operationsPassing("failure: @escaping", new File(sources, OPERATIONS)));
+    }
+
+    @Test(timeout = 600000)
+    public void parsesTheAsyncVariants() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(generate("async-await-parse", SwiftLWGenerator.ASYNC_AWAIT));
+    }
+
+    @Test
+    public void generatesTheRequestMetrics() throws IOException {
+        File sources = generate("request-metrics", SwiftLWGenerator.REQUEST_METRICS);
+
+        GoldenFiles.assertMatches(sources, "request-metrics",
+            "NetworkClient.swift",
+            "NetworkRequestMetrics.swift",
+            OPERATIONS);
+    }
+
+    @Test(timeout = 600000)
+    public void parsesTheRequestMetrics() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(generate("request-metrics-parse", SwiftLWGenerator.REQUEST_METRICS));
+    }
+
+    @Test
+    public void generatesTheRequestScheduler() throws IOException {
+        File sources = generate("request-scheduler", SwiftLWGenerator.REQUEST_SCHEDULER);
+
+        GoldenFiles.assertMatches(sources, "request-scheduler",
+            "NetworkClient.swift",
+            "NetworkRequestScheduler.swift",
+            OPERATIONS);
+    }
+
+    @Test(timeout = 600000)
+    public void parsesTheRequestScheduler() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(generate("request-scheduler-parse", SwiftLWGenerator.REQUEST_SCHEDULER));
+    }
+
+    @Test
+    public void generatesAllOptionsTogether() throws IOException {
+        File sources = generate("all-options", ALL_OPTIONS);
+
+        GoldenFiles.assertMatches(sources, "all-options",
+            "NetworkArrayStream.swift",
+            "NetworkClient.swift",
+            "NetworkClient+Async.swift",
+            "NetworkRequestCoalescer.swift",
+            "NetworkRequestMetrics.swift",
+            "NetworkRequestScheduler.swift",
+            "NetworkResponseCache.swift",
+            OPERATIONS);
+    }
+
+    @Test(timeout = 600000)
+    public void parsesAllOptionsTogether() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(generate("all-options-parse", ALL_OPTIONS));
+    }
+
+    /**
+     * Generates the store fixture with the given options turned on.
+     */
+    private static File generate(String name, String... options) {
+        Map<String, String> additionalProperties = new HashMap<String, String>();
+        for (String option : options) {
+            additionalProperties.put(option, Boolean.TRUE.toString());
+        }
+        return GoldenFiles.generate("store.yaml", name, additionalProperties);
+    }
+
+    /**
+     * @return the names of the client operations whose body contains the given argument.
+     */
+    private static Set<String> operationsPassing(String argument, File operations) throws IOException {
+        Set<String> names = new TreeSet<String>();
+        String[] declarations = GoldenFiles.read(operations).split("public class func ");
+        for (int i = 1; i < declarations.length; i++) {
+            if (declarations[i].contains(argument)) {
+                names.add(declarations[i].substring(0, declarations[i].indexOf('(')));
+            }
+        }
+        return names;
+    }
+
+}
@@ -0,0 +1,128 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Generates the fixture specs of {@code src/test/resources/fixtures} and compares the output with the golden files
+ * of {@code src/test/resources/golden}. With {@code -DupdateGolden=true}, the golden files are written instead.
+ */
+final class GoldenFiles {
+
+    private static final File FIXTURES = new File("src/test/resources/fixtures");
+
+    private static final File GOLDEN = new File("src/test/resources/golden");
+
+    private static final File WORK = new File("target/golden");
+
+    private GoldenFiles() {
+    }
+
+    /**
+     * Generates a fixture spec into a fresh folder of {@code target/golden}.
+     *
+     * @return the source folder of the generated client.
+     */
+    static File generate(String fixture, String name, Map<String, String> additionalProperties) {
+        return generate(new File(FIXTURES, fixture), new File(WORK, name), additionalProperties);
+    }
+
+    /**
+     * Generates a spec into a fresh output folder.
+     *
+     * @return the source folder of the generated client.
+     */
+    static File generate(File specFile, File outputFolder, Map<String, String> additionalProperties) {
+        delete(outputFolder);
+        return regenerate(specFile, outputFolder, additionalProperties);
+    }
+
+    /**
+     * Generates a spec into an output folder, keeping the files of earlier runs.
+     *
+     * @return the source folder of the generated client.
+     */
+    static File regenerate(File specFile, File outputFolder, Map<String, String> additionalProperties) {
+        CodegenConfigurator configurator = new CodegenConfigurator();
+        configurator.setLang("swiftLW");
+        configurator.setInputSpec(specFile.getAbsolutePath());
+        configurator.setOutputDir(outputFolder.getAbsolutePath());
+        for (Map.Entry<String, String> property : additionalProperties.entrySet()) {
+            configurator.addAdditionalProperty(property.getKey(), property.getValue());
+        }
+        new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+        File sources = new File(outputFolder, "Network" + File.separator + "Source");
+        assertTrue("Generated no sources into " + outputFolder, sources.isDirectory());
+        return sources;
+    }
+
+    /**
+     * Compares generated files, by path relative to the source folder, with the golden files of a folder.
+     */
+    static void assertMatches(File sources, String golden, String... paths) throws IOException {
+        for (String path : paths) {
+            File actual = new File(sources, path);
+            File expected = new File(GOLDEN, golden + File.separator + path);
+            assertTrue("Did not generate " + path, actual.isFile());
+            if (Boolean.getBoolean("updateGolden")) {
+                expected.getParentFile().mkdirs();
+                Files.copy(actual.toPath(), expected.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } else if (expected.isFile()) {
+                assertEquals(path + " differs from " + expected, read(expected), read(actual));
+            } else {
+                fail("Missing golden file " + expected + ", write it with -DupdateGolden=true");
+            }
+        }
+    }
+
+    /**
+     * Compares two generated source folders file by file.
+     */
+    static void assertSameFiles(File expected, File actual) throws IOException {
+        String[] names = expected.list();
+        assertTrue("Missing " + actual, actual.isDirectory());
+        assertEquals("Different files in " + actual, sorted(names), sorted(actual.list()));
+        for (String name : names) {
+            File expectedFile = new File(expected, name);
+            File actualFile = new File(actual, name);
+            if (expectedFile.isDirectory()) {
+                assertSameFiles(expectedFile, actualFile);
+            } else {
+                assertEquals(actualFile + " differs from " + expectedFile, read(expectedFile), read(actualFile));
+            }
+        }
+    }
+
+    private static String sorted(String[] names) {
+        String[] copy = names.clone();
+        Arrays.sort(copy);
+        return Arrays.toString(copy);
+    }
+
+    static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+}
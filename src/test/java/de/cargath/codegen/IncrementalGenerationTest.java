@@ -0,0 +1,122 @@
+package de.cargath.codegen;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The {@code incremental} option only rewrites the files whose inputs changed, and deletes the files of removed models.
+ *
+ * Every run starts with the files of the previous run dated back, so the rewritten files are the ones dated
+ * anew. DefaultGenerator writes {@code .swagger-codegen/VERSION} on every run, so that folder is left out.
+ * The fixture spec gets an {@code Owner} model which nothing refers to, so it can be removed.
+ */
+public class IncrementalGenerationTest {
+
+    private static final File WORK = new File("target/incremental");
+
+    private static final File OUTPUT = new File(WORK, "output");
+
+    // a time no run of the test can write a file at
+    private static final long DATED_BACK = 946684800000L;
+
+    private static final String OWNER = "\n"
+        + "  Owner:\n"
+        + "    type: object\n"
+        + "    properties:\n"
+        + "      name: {type: string}\n";
+
+    private String fixture;
+
+    @Before
+    public void generateOnce() throws IOException {
+        fixture = GoldenFiles.read(new File("src/test/resources/fixtures/petstore.yaml"));
+        GoldenFiles.delete(OUTPUT);
+        generate(fixture + OWNER);
+        assertTrue(new File(OUTPUT, "Network/Source/Models/Owner.swift").isFile());
+        assertTrue(new File(OUTPUT, GenerationManifest.FILE_NAME).isFile());
+    }
+
+    @Test
+    public void rewritesNothingForTheSameSpec() throws IOException {
+        assertEquals(Collections.singleton(GenerationManifest.FILE_NAME), generate(fixture + OWNER));
+    }
+
+    @Test
+    public void rewritesOnlyTheChangedModel() throws IOException {
+        // Tag is the last definition of the fixture
+        Set<String> rewritten = generate(fixture.trim() + "\n      label: {type: string}" + OWNER);
+
+        assertEquals(new TreeSet<String>(Arrays.asList(GenerationManifest.FILE_NAME, "Network/Source/Models/Tag.swift")),
+            rewritten);
+        assertTrue(GoldenFiles.read(new File(OUTPUT, "Network/Source/Models/Tag.swift")).contains("public var label: String?"));
+    }
+
+    @Test
+    public void deletesTheFileOfARemovedModel() throws IOException {
+        Set<String> rewritten = generate(fixture);
+
+        assertEquals(Collections.singleton(GenerationManifest.FILE_NAME), rewritten);
+        assertFalse(new File(OUTPUT, "Network/Source/Models/Owner.swift").exists());
+        assertFalse(GoldenFiles.read(new File(OUTPUT, GenerationManifest.FILE_NAME)).contains("Owner.swift"));
+    }
+
+    /**
+     * Dates back the files of the previous run and generates the spec incrementally.
+     *
+     * @return the files this run wrote, by path relative to the output folder.
+     */
+    private static Set<String> generate(String spec) throws IOException {
+        datedBack(OUTPUT);
+        File specFile = new File(WORK, "petstore.yaml");
+        WORK.mkdirs();
+        Files.write(specFile.toPath(), spec.getBytes(StandardCharsets.UTF_8));
+        Map<String, String> options = Collections.singletonMap(SwiftLWGenerator.INCREMENTAL, Boolean.TRUE.toString());
+        GoldenFiles.regenerate(specFile, OUTPUT, options);
+        Set<String> written = new TreeSet<String>();
+        collectWritten(OUTPUT, "", written);
+        return written;
+    }
+
+    private static void datedBack(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                datedBack(child);
+            }
+        } else if (file.isFile()) {
+            assertTrue("Could not date back " + file, file.setLastModified(DATED_BACK));
+        }
+    }
+
+    private static void collectWritten(File folder, String prefix, Set<String> written) {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String path = prefix + file.getName();
+            if (file.isDirectory()) {
+                if (!path.equals(".swagger-codegen")) {
+                    collectWritten(file, path + "/", written);
+                }
+            } else if (file.lastModified() != DATED_BACK) {
+                written.add(path);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+package de.cargath.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs the template lambdas of {@link SwiftLWGenerator} on fragments written in one or several chunks.
+ *
+ * The title-casing is also compared with the string based implementation it replaced,
+ * which split the text with a regular expression.
+ */
+public class LambdasTest {
+
+    private static final Template TEMPLATE = Mustache.compiler().compile("");
+
+    @Test
+    public void titlecasesEveryWord() throws IOException {
+        TitlecaseLambda titlecase = new TitlecaseLambda();
+        assertEquals("Hello", execute(titlecase, "hello"));
+        assertEquals("Hello World", execute(titlecase, "hello world"));
+        assertEquals("Hello World", execute(titlecase, "hello", " ", "world"));
+        assertEquals(" Leading", execute(titlecase, " leading"));
+        assertEquals("Élan Vital", execute(titlecase, "élan vital"));
+        assertEquals("Hello_world", execute(titlecase, "hello_world"));
+    }
+
+    @Test
+    public void titlecasesLikeSplitting() throws IOException {
+        // delimiter, text without empty words or a trailing delimiter
+        String[][] cases = {
+            {" ", "hello"},
+            {" ", "hello world"},
+            {" ", "get pet by id"},
+            {"-", "get-pet-by-id"},
+            {"--", "foo--bar"},
+            {"--", "foo---bar"},
+            {"--", "foo-bar"},
+            {"aab", "xaaabyz"},
+            {"aab", "xaaaabz"},
+        };
+        for (String[] row : cases) {
+            assertEquals(row[0] + ": " + row[1], splitTitlecase(row[1], row[0]), execute(new TitlecaseLambda(row[0]), row[1]));
+        }
+    }
+
+    @Test
+    public void keepsTrailingDelimiters() throws IOException {
+        // splitting dropped delimiters at the end of the text
+        assertEquals("Hello World", splitTitlecase("hello world ", " "));
+        assertEquals("Hello World ", execute(new TitlecaseLambda(), "hello world "));
+        assertEquals("Foo--", execute(new TitlecaseLambda("--"), "foo--"));
+        assertEquals("Xaaab", execute(new TitlecaseLambda("aab"), "xaaab"));
+    }
+
+    @Test
+    public void keepsEmptyWords() throws IOException {
+        // splitting failed on empty words, e.g. between two consecutive delimiters
+        assertEquals("", execute(new TitlecaseLambda(), ""));
+        assertEquals("A  B", execute(new TitlecaseLambda(), "a  b"));
+        assertEquals("--Foo", execute(new TitlecaseLambda("--"), "--foo"));
+    }
+
+    @Test
+    public void matchesDelimitersAcrossChunks() throws IOException {
+        TitlecaseLambda dashes = new TitlecaseLambda("--");
+        assertEquals("Foo--Bar", execute(dashes, "foo-", "-bar"));
+        assertEquals("Foo-bar", execute(dashes, "foo-", "bar"));
+        // a held back prefix of the delimiter is written once the fragment is done
+        assertEquals("Foo-", execute(dashes, "foo-"));
+        assertEquals("Foo---bar", execute(dashes, "foo-", "-", "-bar"));
+
+        // the partial match "aa" falls back to "a" when the next character is not a "b"
+        TitlecaseLambda aab = new TitlecaseLambda("aab");
+        assertEquals("XaaabYz", execute(aab, "xa", "a", "ab", "yz"));
+        assertEquals("Xaaaa", execute(aab, "xaaaa"));
+        assertEquals("aabaabX", execute(aab, "aabaabx"));
+    }
+
+    @Test
+    public void titlecasesOnlyTheFirstWordWithoutDelimiter() throws IOException {
+        assertEquals("Hello world", execute(new TitlecaseLambda(null), "hello world"));
+        assertEquals("Hello world", execute(new TitlecaseLambda(""), "hello world"));
+    }
+
+    @Test
+    public void camelcasesWords() throws IOException {
+        CamelCaseLambda camelcase = new CamelCaseLambda();
+        assertEquals("petStoreName", execute(camelcase, "pet_store-name"));
+        assertEquals("petStore", execute(camelcase, "PetStore"));
+        assertEquals("petStore", execute(camelcase, "pet store"));
+        assertEquals("petStore", execute(camelcase, "pet_", "store"));
+        assertEquals("leading", execute(camelcase, "__leading"));
+        assertEquals("trailing", execute(camelcase, "trailing_"));
+        assertEquals("1stPlace", execute(camelcase, "1st_place"));
+        assertEquals("étéChaud", execute(camelcase, "Été chaud"));
+        assertEquals("", execute(camelcase, ""));
+        assertEquals("", execute(camelcase, "_-_"));
+    }
+
+    @Test
+    public void indentsEveryLineButTheFirst() throws IOException {
+        IndentedLambda indent4 = new IndentedLambda(4);
+        assertEquals("a", execute(indent4, "a"));
+        assertEquals("a\n    b", execute(indent4, "a\nb"));
+        assertEquals("a\n    b\n    c", execute(indent4, "a\n", "b\nc"));
+        assertEquals("a\n     b\n    c", execute(indent4, "a\n b\nc"));
+        assertEquals("a\r\n    b", execute(indent4, "a\r\nb"));
+        assertEquals("", execute(indent4, ""));
+    }
+
+    @Test
+    public void leavesEmptyLinesEmpty() throws IOException {
+        IndentedLambda indent2 = new IndentedLambda(2);
+        assertEquals("a\n\n  b", execute(indent2, "a\n\nb"));
+        assertEquals("a\r\n\r\n  b", execute(indent2, "a\r\n\r\nb"));
+        assertEquals("a\n", execute(indent2, "a\n"));
+        assertEquals("a\nb", execute(new IndentedLambda(0), "a\nb"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeIndentation() {
+        new IndentedLambda(-1);
+    }
+
+    @Test
+    public void changesTheCase() throws IOException {
+        assertEquals("get", execute(new LowercaseLambda(), "GET"));
+        assertEquals("http get", execute(new LowercaseLambda(), "HTTP ", "Get"));
+        assertEquals("GET", execute(new UppercaseLambda(), "get"));
+        assertEquals("HTTP GET", execute(new UppercaseLambda(), "http ", "Get"));
+        assertEquals("ÉTÉ", execute(new UppercaseLambda(), "été"));
+        // characters are converted one at a time, so there are no conversions which change the length
+        assertEquals("STRAßE", execute(new UppercaseLambda(), "straße"));
+        assertEquals("", execute(new LowercaseLambda(), ""));
+    }
+
+    @Test
+    public void nestsInTemplates() {
+        Map<String, Object> context = new HashMap<String, Object>(new SwiftLWGenerator().additionalProperties());
+        context.put("operationId", "get pet_by-id");
+        context.put("description", "first\nsecond");
+
+        assertEquals("GET PET_BY-ID", Mustache.compiler()
+            .compile("{{#uppercase}}{{#titlecase}}{{operationId}}{{/titlecase}}{{/uppercase}}").execute(context));
+        assertEquals("Get Pet_by-id", Mustache.compiler()
+            .compile("{{#titlecase}}{{operationId}}{{/titlecase}}").execute(context));
+        assertEquals("getPetById", Mustache.compiler()
+            .compile("{{#camelcase}}{{operationId}}{{/camelcase}}").execute(context));
+        assertEquals("    /// first\n        second", Mustache.compiler()
+            .compile("    /// {{#indent8}}{{description}}{{/indent8}}").execute(context));
+    }
+
+    /**
+     * Executes a lambda on a fragment which writes the given chunks one after the other.
+     */
+    private static String execute(Mustache.Lambda lambda, String... chunks) throws IOException {
+        StringWriter writer = new StringWriter();
+        lambda.execute(new ChunkedFragment(chunks), writer);
+        return writer.toString();
+    }
+
+    /**
+     * The title-casing as it was before it streamed: splits the text with a regular expression
+     * and upper-cases the first character of every part.
+     */
+    private static String splitTitlecase(String text, String delimiter) {
+        String[] parts = text.split("\\Q" + delimiter + "\\E");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            sb.append(parts[i].substring(0, 1).toUpperCase()).append(parts[i].substring(1));
+            if (i != parts.length - 1) {
+                sb.append(delimiter);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A fragment which writes its text in chunks, and fails if it is rendered into a string.
+     */
+    private static final class ChunkedFragment extends Template.Fragment {
+        private final String[] chunks;
+
+        ChunkedFragment(String[] chunks) {
+            TEMPLATE.super();
+            this.chunks = chunks;
+        }
+
+        @Override
+        public Object context() {
+            return null;
+        }
+
+        @Override
+        public void execute(Writer out) {
+            try {
+                for (String chunk : chunks) {
+                    out.write(chunk);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void execute(Object context, Writer out) {
+            execute(out);
+        }
+
+        @Override
+        public String execute() {
+            throw new AssertionError("The lambda rendered the fragment into a string");
+        }
+    }
+
+}
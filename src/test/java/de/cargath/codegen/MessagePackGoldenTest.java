@@ -0,0 +1,63 @@
+package de.cargath.codegen;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The {@code messagePack} option: the {@code Accept} header of the requests, the choice of the decoder by the
+ * {@code Content-Type} of the response, and MessagePack test vectors run through the generated codec.
+ *
+ * The codec is generic, it codes every {@code Codable} model through the synthesized or generated
+ * {@code encode(to:)} and {@code init(from:)}, so the models are the same as without the option.
+ */
+public class MessagePackGoldenTest {
+
+    private static final File VECTORS = new File("src/test/resources/swift/messagepack/main.swift");
+
+    @Test
+    public void negotiatesTheResponseFormat() throws IOException {
+        File sources = GoldenFiles.generate("petstore.yaml", "messagepack", options(true));
+
+        GoldenFiles.assertMatches(sources, "messagepack",
+            "NetworkCoders.swift",
+            "Extensions/URLRequest+Network.swift",
+            "Extensions/URLSession+Network.swift");
+    }
+
+    @Test
+    public void generatesTheSameModels() throws IOException {
+        File sources = GoldenFiles.generate("petstore.yaml", "messagepack-models", options(true));
+        File json = GoldenFiles.generate("petstore.yaml", "json", options(false));
+
+        GoldenFiles.assertMatches(sources, "messagepack", "Models/Pet.swift");
+        GoldenFiles.assertSameFiles(new File(json, "Models"), new File(sources, "Models"));
+    }
+
+    @Test(timeout = 600000)
+    public void codesTheTestVectors() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        File sources = GoldenFiles.generate("petstore.yaml", "messagepack-vectors", options(true));
+        File main = new File(sources.getParentFile(), "Vectors/main.swift");
+        main.getParentFile().mkdirs();
+        Files.copy(VECTORS.toPath(), main.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        String output = Swiftc.compileAndRun(new File(main.getParentFile(), "vectors"), main,
+            new File(sources, "NetworkMessagePack.swift"),
+            new File(sources, "NetworkCoders.swift"),
+            new File(sources, "Models"));
+        assertTrue(output, output.contains("All MessagePack vectors passed"));
+    }
+
+    private static Map<String, String> options(boolean messagePack) {
+        return Collections.singletonMap(SwiftLWGenerator.MESSAGE_PACK, Boolean.toString(messagePack));
+    }
+
+}
@@ -0,0 +1,126 @@
+package de.cargath.codegen;
+
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The definitions {@link ModelReachability} finds from single operations of a spec, through {@code allOf},
+ * array items, {@code additionalProperties}, inline objects and shared parameters.
+ */
+public class ModelReachabilityTest {
+
+    private static final String SPEC = ""
+        + "swagger: '2.0'\n"
+        + "info: {title: Zoo, version: '1.0.0'}\n"
+        + "parameters:\n"
+        + "  filter: {name: filter, in: body, schema: {$ref: '#/definitions/Filter'}}\n"
+        + "paths:\n"
+        + "  /pets:\n"
+        + "    get:\n"
+        + "      operationId: getPet\n"
+        + "      responses:\n"
+        + "        200: {description: OK, schema: {$ref: '#/definitions/Pet'}}\n"
+        + "    post:\n"
+        + "      operationId: findPets\n"
+        + "      parameters: [{$ref: '#/parameters/filter'}]\n"
+        + "      responses:\n"
+        + "        200: {description: OK, schema: {type: array, items: {$ref: '#/definitions/Summary'}}}\n"
+        + "  /labels:\n"
+        + "    parameters:\n"
+        + "      - {name: body, in: body, schema: {type: array, items: {$ref: '#/definitions/Label'}}}\n"
+        + "    put:\n"
+        + "      operationId: putLabels\n"
+        + "      responses:\n"
+        + "        200: {description: OK, schema: {$ref: '#/definitions/Labels'}}\n"
+        + "  /nodes:\n"
+        + "    get:\n"
+        + "      operationId: getNodes\n"
+        + "      parameters:\n"
+        + "        - {name: kinds, in: query, type: array, items: {type: string}}\n"
+        + "      responses:\n"
+        + "        200: {description: OK, schema: {$ref: '#/definitions/Node'}}\n"
+        + "definitions:\n"
+        + "  Pet:\n"
+        + "    allOf:\n"
+        + "      - $ref: '#/definitions/Animal'\n"
+        + "      - properties:\n"
+        + "          tags: {type: array, items: {$ref: '#/definitions/Tag'}}\n"
+        + "          attributes: {type: object, additionalProperties: {$ref: '#/definitions/Attribute'}}\n"
+        + "          owner:\n"
+        + "            type: object\n"
+        + "            properties:\n"
+        + "              address: {$ref: '#/definitions/Address'}\n"
+        + "  Animal:\n"
+        + "    properties:\n"
+        + "      kind: {$ref: '#/definitions/Kind'}\n"
+        + "  Kind: {type: string, enum: [cat, dog]}\n"
+        + "  Tag: {properties: {name: {type: string}}}\n"
+        + "  Attribute: {properties: {value: {type: string}}}\n"
+        + "  Address: {properties: {city: {type: string}}}\n"
+        + "  Filter: {properties: {kind: {$ref: '#/definitions/Kind'}}}\n"
+        + "  Summary: {properties: {name: {type: string}}}\n"
+        + "  Label: {properties: {text: {type: string}}}\n"
+        + "  Labels:\n"
+        + "    type: object\n"
+        + "    additionalProperties: {type: array, items: {$ref: '#/definitions/Label'}}\n"
+        + "  Node:\n"
+        + "    properties:\n"
+        + "      children: {type: array, items: {$ref: '#/definitions/Node'}}\n"
+        + "  Unused:\n"
+        + "    properties:\n"
+        + "      tag: {$ref: '#/definitions/Tag'}\n";
+
+    private static final Swagger SWAGGER = new SwaggerParser().parse(SPEC);
+
+    @Test
+    public void followsAllOfArrayItemsAdditionalPropertiesAndInlineObjects() {
+        assertEquals(names("Address", "Animal", "Attribute", "Kind", "Pet", "Tag"),
+            reachable("/pets", HttpMethod.GET));
+    }
+
+    @Test
+    public void followsSharedParametersAndResponseArrays() {
+        assertEquals(names("Filter", "Kind", "Summary"), reachable("/pets", HttpMethod.POST));
+    }
+
+    @Test
+    public void followsParametersOfThePathAndModelsWithAdditionalProperties() {
+        // Labels is a dictionary of arrays of Label
+        assertEquals(names("Label", "Labels"), reachable("/labels", HttpMethod.PUT));
+    }
+
+    @Test
+    public void stopsAtCycles() {
+        assertEquals(names("Node"), reachable("/nodes", HttpMethod.GET));
+    }
+
+    @Test
+    public void joinsTheDefinitionsOfAllOperations() {
+        Path pets = SWAGGER.getPath("/pets");
+        Set<String> reachable = new ModelReachability(SWAGGER)
+            .addOperation(pets, pets.getGet())
+            .addOperation(pets, pets.getPost())
+            .reachable();
+
+        assertEquals(names("Address", "Animal", "Attribute", "Filter", "Kind", "Pet", "Summary", "Tag"), reachable);
+    }
+
+    private static Set<String> reachable(String path, HttpMethod method) {
+        Path item = SWAGGER.getPath(path);
+        return new ModelReachability(SWAGGER).addOperation(item, item.getOperationMap().get(method)).reachable();
+    }
+
+    private static Set<String> names(String... names) {
+        return new TreeSet<String>(Arrays.asList(names));
+    }
+
+}
@@ -0,0 +1,29 @@
+package de.cargath.codegen;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * The {@code parallelism} option must not change the output: the files rendered on the pool are compared
+ * with the files rendered one at a time, for a synthetic spec with hundreds of models and many tags.
+ */
+public class ParallelRenderingTest {
+
+    private static final File WORK = new File("target/parallel");
+
+    @Test
+    public void rendersTheSameFilesAsASingleThread() throws IOException {
+        File specFile = new SyntheticSpec(7).models(500).tags(20).write(new File(WORK, "spec.json"));
+
+        File serial = GoldenFiles.generate(specFile, new File(WORK, "serial"),
+            Collections.singletonMap(SwiftLWGenerator.PARALLELISM, "1"));
+        File parallel = GoldenFiles.generate(specFile, new File(WORK, "parallel"),
+            Collections.singletonMap(SwiftLWGenerator.PARALLELISM, "4"));
+
+        GoldenFiles.assertSameFiles(serial, parallel);
+    }
+
+}
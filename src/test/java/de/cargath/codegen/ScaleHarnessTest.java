@@ -0,0 +1,230 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs {@link SwiftLWGenerator} end-to-end (writing, parsing and generating) on {@link SyntheticSpec}s
+ * and fails if a run takes longer or needs more heap than allowed, or if the output differs from the golden file.
+ *
+ * The heap needed is the most heap in use right after a collection during the run, so it counts what the generator
+ * keeps alive rather than the garbage that happened to pile up before the collector ran.
+ * The golden file lists the SHA-256 of every generated file, in the format of {@code .swiftlw-manifest}.
+ * The 1k spec fails without its golden file, {@code -DupdateGolden=true} writes the golden files instead of comparing.
+ *
+ * Only the 1k spec runs by default. Pass {@code -Dscale.models=1000,10000,50000} for the larger specs,
+ * and {@code -Dscale.maxSeconds.<models>} or {@code -Dscale.maxHeapMb} to change the ceilings:
+ * <pre>
+ * mvn test -Dtest=ScaleHarnessTest -Dscale.models=1000,10000,50000
+ * </pre>
+ */
+public class ScaleHarnessTest {
+
+    private static final long SEED = 42;
+
+    private static final File GOLDEN_FOLDER = new File("src/test/resources/scale");
+
+    private static final File WORK = new File("target/scale");
+
+    @Test
+    public void generatesSyntheticSpecsWithinCeilings() throws IOException {
+        List<String> failures = new ArrayList<String>();
+        for (String models : System.getProperty("scale.models", "1000").split(",")) {
+            failures.addAll(run(Integer.parseInt(models.trim())));
+        }
+        if (!failures.isEmpty()) {
+            StringBuilder message = new StringBuilder();
+            for (String failure : failures) {
+                message.append('\n').append(failure);
+            }
+            fail(message.toString());
+        }
+    }
+
+    private static List<String> run(int models) throws IOException {
+        String name = models + "-" + SEED;
+        File specFile = new File(WORK, name + ".json");
+        File outputFolder = new File(WORK, name);
+        delete(outputFolder);
+        new SyntheticSpec(SEED).models(models).write(specFile);
+
+        HeapWatcher heap = new HeapWatcher();
+        System.gc();
+        heap.start();
+        long start = System.nanoTime();
+        try {
+            generate(specFile, outputFolder);
+        } finally {
+            heap.stop();
+        }
+        double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        long heapMegabytes = heap.max() / (1024 * 1024);
+        System.out.println(String.format("%s: %.1f s, %d MB of heap after collections (max heap %d MB)",
+            name, seconds, heapMegabytes, Runtime.getRuntime().maxMemory() / (1024 * 1024)));
+
+        List<String> failures = new ArrayList<String>();
+        double maxSeconds = Double.parseDouble(System.getProperty("scale.maxSeconds." + models, defaultMaxSeconds(models)));
+        if (seconds > maxSeconds) {
+            failures.add(String.format("%s took %.1f s, allowed are %.1f s", name, seconds, maxSeconds));
+        }
+        long maxHeapMegabytes = Long.getLong("scale.maxHeapMb", 1200);
+        if (heapMegabytes > maxHeapMegabytes) {
+            failures.add(name + " needed " + heapMegabytes + " MB of heap, allowed are " + maxHeapMegabytes + " MB");
+        }
+
+        File golden = new File(GOLDEN_FOLDER, name + ".sha256");
+        Map<String, String> checksums = checksums(outputFolder);
+        if (Boolean.getBoolean("updateGolden")) {
+            writeChecksums(golden, checksums);
+            System.out.println("Wrote " + checksums.size() + " checksums to " + golden);
+        } else if (golden.isFile()) {
+            for (String failure : compare(readChecksums(golden), checksums)) {
+                failures.add(name + " " + failure);
+            }
+        } else if (models == 1000) {
+            failures.add(name + " has no golden file " + golden + ", write it with -DupdateGolden=true");
+        }
+        return failures;
+    }
+
+    private static String defaultMaxSeconds(int models) {
+        return models <= 1000 ? "60" : models <= 10000 ? "300" : "1200";
+    }
+
+    private static void generate(File specFile, File outputFolder) {
+        CodegenConfigurator configurator = new CodegenConfigurator();
+        configurator.setLang("swiftLW");
+        configurator.setInputSpec(specFile.getAbsolutePath());
+        configurator.setOutputDir(outputFolder.getAbsolutePath());
+        new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+    }
+
+    private static List<String> compare(Map<String, String> expected, Map<String, String> actual) {
+        List<String> failures = new ArrayList<String>();
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            String checksum = actual.get(entry.getKey());
+            if (checksum == null) {
+                failures.add("did not generate " + entry.getKey());
+            } else if (!checksum.equals(entry.getValue())) {
+                failures.add("generated a different " + entry.getKey());
+            }
+        }
+        for (String path : actual.keySet()) {
+            if (!expected.containsKey(path)) {
+                failures.add("generated an unexpected " + path);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @return the SHA-256 of every generated Swift file, by path relative to the output folder.
+     */
+    private static Map<String, String> checksums(File outputFolder) throws IOException {
+        Map<String, String> checksums = new TreeMap<String, String>();
+        collectChecksums(outputFolder, "", checksums);
+        assertTrue("Generated no files into " + outputFolder, !checksums.isEmpty());
+        return checksums;
+    }
+
+    private static void collectChecksums(File folder, String prefix, Map<String, String> checksums) throws IOException {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String path = prefix + file.getName();
+            if (file.isDirectory()) {
+                collectChecksums(file, path + "/", checksums);
+            } else if (file.getName().endsWith(".swift")) {
+                checksums.put(path, sha256(file));
+            }
+        }
+    }
+
+    private static String sha256(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } finally {
+            in.close();
+        }
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b & 0xff));
+        }
+        return hex.toString();
+    }
+
+    private static Map<String, String> readChecksums(File file) throws IOException {
+        Map<String, String> checksums = new TreeMap<String, String>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf("  ");
+                if (separator > 0) {
+                    checksums.put(line.substring(separator + 2), line.substring(0, separator));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return checksums;
+    }
+
+    private static void writeChecksums(File file, Map<String, String> checksums) throws IOException {
+        file.getParentFile().mkdirs();
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+        try {
+            for (Map.Entry<String, String> entry : checksums.entrySet()) {
+                writer.write(entry.getValue() + "  " + entry.getKey() + "\n");
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+}
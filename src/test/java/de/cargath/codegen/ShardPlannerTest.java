@@ -0,0 +1,140 @@
+package de.cargath.codegen;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Where {@link ShardPlanner} cuts the shards, and which references keep units together.
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void cutsIntoShardsOfBalancedWeight() {
+        ShardPlanner<String> planner = new ShardPlanner<String>();
+        for (String name : Arrays.asList("A", "B", "C", "D")) {
+            add(planner, name, 1);
+        }
+
+        assertEquals(shards("A B", "C D"), planner.plan(2));
+    }
+
+    @Test
+    public void cutsWhereTheWeightReachesABoundary() {
+        // A alone is exactly half of the total weight
+        ShardPlanner<String> exactly = new ShardPlanner<String>();
+        add(exactly, "A", 2);
+        add(exactly, "B", 1);
+        add(exactly, "C", 1);
+        assertEquals(shards("A", "B C"), exactly.plan(2));
+
+        // A alone is below half of it, A and B are above
+        ShardPlanner<String> below = new ShardPlanner<String>();
+        add(below, "A", 1);
+        add(below, "B", 2);
+        add(below, "C", 1);
+        assertEquals(shards("A B", "C"), below.plan(2));
+    }
+
+    @Test
+    public void leavesAUnitForEveryShard() {
+        ShardPlanner<String> planner = new ShardPlanner<String>();
+        add(planner, "A", 1);
+        add(planner, "B", 1);
+        add(planner, "C", 10);
+
+        // the weight boundaries alone would put A and B into the first shard and leave the third one empty
+        assertEquals(shards("A", "B", "C"), planner.plan(3));
+    }
+
+    @Test
+    public void plansNoMoreShardsThanUnits() {
+        ShardPlanner<String> planner = new ShardPlanner<String>();
+        add(planner, "A", 1);
+        add(planner, "B", 1);
+
+        assertEquals(shards("A", "B"), planner.plan(5));
+        assertEquals(shards("A B"), planner.plan(1));
+        assertEquals(Collections.<List<String>>emptyList(), new ShardPlanner<String>().plan(3));
+    }
+
+    @Test
+    public void keepsReferringUnitsTogether() {
+        ShardPlanner<String> planner = new ShardPlanner<String>();
+        add(planner, "A", 1, "D");
+        add(planner, "B", 1);
+        add(planner, "C", 1);
+        add(planner, "D", 1);
+
+        assertEquals(shards("A D", "B C"), planner.plan(2));
+    }
+
+    @Test
+    public void followsAKeySharedByAsManyUnitsAsFitIntoAShard() {
+        // 6 units in 3 shards, 2 fit into a shard: A and E both refer to Error
+        ShardPlanner<String> planner = new ShardPlanner<String>();
+        for (String name : Arrays.asList("A", "B", "C", "D", "E", "F")) {
+            add(planner, name, 1, "A".equals(name) || "E".equals(name) ? "Error" : null);
+        }
+
+        assertEquals(shards("A E", "B C", "D F"), planner.plan(3));
+    }
+
+    @Test
+    public void ignoresAKeySharedByMoreUnitsThanFitIntoAShard() {
+        // A, C and E refer to Error, which says nothing about their locality
+        ShardPlanner<String> planner = new ShardPlanner<String>();
+        for (String name : Arrays.asList("A", "B", "C", "D", "E", "F")) {
+            add(planner, name, 1, "A".equals(name) || "C".equals(name) || "E".equals(name) ? "Error" : null);
+        }
+
+        assertEquals(shards("A B", "C D", "E F"), planner.plan(3));
+    }
+
+    @Test
+    public void plansTheSameShardsInAnyOrder() {
+        ShardPlanner<String> forward = new ShardPlanner<String>();
+        ShardPlanner<String> backward = new ShardPlanner<String>();
+        List<String> names = Arrays.asList("Pet", "Tag", "Order", "User", "Category");
+        for (int i = 0; i < names.size(); i++) {
+            add(forward, names.get(i), i + 1, "Tag");
+            add(backward, names.get(names.size() - 1 - i), names.size() - i, "Tag");
+        }
+
+        assertEquals(forward.plan(2), backward.plan(2));
+    }
+
+    @Test
+    public void replacesAUnitAddedTwiceAndWeighsEveryUnit() {
+        ShardPlanner<String> planner = new ShardPlanner<String>();
+        add(planner, "A", 0);
+        add(planner, "B", -3);
+        add(planner, "C", 5);
+        add(planner, "C", 1);
+        add(planner, "D", 1);
+
+        // every unit weighs at least 1, C only once with the weight it was added with last
+        assertEquals(shards("A B", "C D"), planner.plan(2));
+    }
+
+    private static void add(ShardPlanner<String> planner, String name, int weight, String... keys) {
+        planner.add(name, weight, Arrays.asList(keys), name);
+    }
+
+    /**
+     * @return the shards, given as the names of their units separated by spaces.
+     */
+    private static List<List<String>> shards(String... shards) {
+        List<List<String>> list = new ArrayList<List<String>>();
+        for (String shard : shards) {
+            list.add(Arrays.asList(shard.split(" ")));
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,221 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenProperty;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link SharedEnums} on models built by hand, whose properties are listed in {@code vars}, {@code allVars},
+ * {@code requiredVars} and {@code optionalVars} like {@link io.swagger.codegen.DefaultCodegen} lists them,
+ * and the golden files of the {@code sharedEnums} option.
+ */
+public class SharedEnumsTest {
+
+    // the first 8 hex digits of the SHA-256 of "String\0available\0sold"
+    private static final String AVAILABLE_SOLD_HASH = "529c5635";
+
+    @Test
+    public void sharesIdenticalEnumsOnce() {
+        CodegenModel pet = model("Pet", property("status", "Status", "available", "sold"));
+        CodegenModel tag = model("Tag", property("status", "Status", "sold", "available"));
+
+        List<Map<String, Object>> shared = SharedEnums.share(Arrays.asList(pet, tag), names("Pet", "Tag"));
+
+        assertEquals(1, shared.size());
+        assertEquals("Status", shared.get(0).get("enumName"));
+        assertEquals("String", shared.get(0).get("rawType"));
+        assertEquals(Boolean.TRUE, shared.get(0).get("quoted"));
+        for (CodegenModel model : Arrays.asList(pet, tag)) {
+            for (CodegenProperty property : allLists(model)) {
+                assertEquals("Status", property.enumName);
+                assertEquals(Boolean.TRUE, property.vendorExtensions.get(SharedEnums.SHARED_EXTENSION));
+            }
+        }
+    }
+
+    @Test
+    public void keepsEnumsOfOneModelNested() {
+        // the same property in all lists of a single model is not shared
+        CodegenModel pet = model("Pet", property("status", "Status", "available", "sold"));
+        CodegenModel tag = model("Tag", property("status", "Status", "new", "old"));
+
+        assertTrue(SharedEnums.share(Arrays.asList(pet, tag), names("Pet", "Tag")).isEmpty());
+        for (CodegenProperty property : allLists(pet)) {
+            assertNull(property.vendorExtensions.get(SharedEnums.SHARED_EXTENSION));
+        }
+    }
+
+    @Test
+    public void countsEveryPropertyOfAModelOnce() {
+        // Order lists its property in every list, Pet and Tag only in vars: by list entries State would win 3 to 2
+        CodegenModel order = model("Order", property("state", "State", "available", "sold"));
+        CodegenModel pet = new CodegenModel();
+        pet.classname = "Pet";
+        pet.vars = Arrays.asList(property("status", "Status", "available", "sold"));
+        CodegenModel tag = new CodegenModel();
+        tag.classname = "Tag";
+        tag.vars = Arrays.asList(property("status", "Status", "available", "sold"));
+
+        List<Map<String, Object>> shared = SharedEnums.share(Arrays.asList(order, pet, tag), names("Order", "Pet", "Tag"));
+
+        assertEquals(1, shared.size());
+        assertEquals("Status", shared.get(0).get("enumName"));
+        for (CodegenProperty property : allLists(order)) {
+            assertEquals("Status", property.enumName);
+            assertEquals("Status", property.datatypeWithEnum);
+        }
+    }
+
+    @Test
+    public void appendsTheHashIfTheNameIsTakenByAModel() {
+        CodegenModel pet = model("Pet", property("status", "Status", "available", "sold"));
+        CodegenModel tag = model("Tag", property("status", "Status", "available", "sold"));
+
+        List<Map<String, Object>> shared = SharedEnums.share(Arrays.asList(pet, tag), names("Pet", "Tag", "Status"));
+
+        assertEquals("Status_" + AVAILABLE_SOLD_HASH, shared.get(0).get("enumName"));
+        assertEquals("Status_" + AVAILABLE_SOLD_HASH, pet.vars.get(0).enumName);
+    }
+
+    @Test
+    public void appendsTheHashIfTheNameIsTakenByANestedEnum() {
+        CodegenModel pet = model("Pet", property("status", "Status", "available", "sold"));
+        CodegenModel tag = model("Tag", property("status", "Status", "available", "sold"));
+        CodegenModel order = model("Order", property("status", "Status", "placed", "delivered"));
+
+        List<Map<String, Object>> shared = SharedEnums.share(Arrays.asList(pet, tag, order), names("Pet", "Tag", "Order"));
+
+        assertEquals(1, shared.size());
+        assertEquals("Status_" + AVAILABLE_SOLD_HASH, shared.get(0).get("enumName"));
+        assertEquals("Status", order.vars.get(0).enumName);
+    }
+
+    @Test
+    public void namesTheEnumByItsValuesOnly() {
+        // the hash does not depend on the models which use the enum, or on the order of its values
+        CodegenModel a = model("A", property("status", "Status", "sold", "available"));
+        CodegenModel b = model("B", property("state", "Status", "available", "sold"));
+        CodegenModel c = model("C", property("status", "Status", "available", "sold"));
+        CodegenModel d = model("D", property("status", "Status", "available", "sold"));
+
+        Set<String> reserved = names("A", "B", "C", "D", "Status");
+        Object first = SharedEnums.share(Arrays.asList(a, b), reserved).get(0).get("enumName");
+        Object second = SharedEnums.share(Arrays.asList(c, d), reserved).get(0).get("enumName");
+
+        assertEquals("Status_" + AVAILABLE_SOLD_HASH, first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void sharesEnumsOfArrays() {
+        CodegenProperty pet = property("statuses", "Statuses", "available", "sold");
+        pet.isContainer = true;
+        pet.datatype = "[String]";
+        pet.datatypeWithEnum = "[Statuses]";
+        CodegenProperty tag = property("status", "Status", "available", "sold");
+
+        List<Map<String, Object>> shared = SharedEnums.share(
+            Arrays.asList(model("Pet", pet), model("Tag", tag)), names("Pet", "Tag"));
+
+        assertEquals(1, shared.size());
+        assertEquals("String", shared.get(0).get("rawType"));
+        // a tie, the first name wins
+        assertEquals("Status", shared.get(0).get("enumName"));
+        assertEquals("[Status]", pet.datatypeWithEnum);
+    }
+
+    @Test
+    public void doesNotWriteThroughToTheSwaggerExtensions() {
+        Map<String, Object> extensions = new HashMap<String, Object>();
+        CodegenProperty status = property("status", "Status", "available", "sold");
+        status.vendorExtensions = extensions;
+        CodegenModel pet = new CodegenModel();
+        pet.classname = "Pet";
+        pet.vars = Arrays.asList(status);
+
+        SharedEnums.share(Arrays.asList(pet, model("Tag", property("status", "Status", "available", "sold"))),
+            names("Pet", "Tag"));
+
+        assertFalse(extensions.containsKey(SharedEnums.SHARED_EXTENSION));
+        assertEquals(Boolean.TRUE, status.vendorExtensions.get(SharedEnums.SHARED_EXTENSION));
+    }
+
+    @Test
+    public void generatesTheSharedEnums() throws IOException {
+        File sources = GoldenFiles.generate("petstore.yaml", "shared-enums",
+            Collections.singletonMap(SwiftLWGenerator.SHARED_ENUMS, Boolean.TRUE.toString()));
+
+        GoldenFiles.assertMatches(sources, "shared-enums",
+            "Models/NetworkEnums.swift",
+            "Models/Pet.swift",
+            "Models/Tag.swift");
+    }
+
+    @Test
+    public void declaresTheEnumsInTheModelsByDefault() {
+        File sources = GoldenFiles.generate("petstore.yaml", "nested-enums", Collections.<String, String>emptyMap());
+
+        assertFalse(new File(sources, "Models/NetworkEnums.swift").exists());
+    }
+
+    /**
+     * @return a model with an optional property, listed like DefaultCodegen does: the same instance in
+     *         {@code vars} and {@code optionalVars}, and a copy in {@code allVars}.
+     */
+    private static CodegenModel model(String classname, CodegenProperty property) {
+        CodegenModel model = new CodegenModel();
+        model.classname = classname;
+        model.vars = Arrays.asList(property);
+        model.optionalVars = Arrays.asList(property);
+        model.allVars = Arrays.asList(property.clone());
+        model.requiredVars = Collections.emptyList();
+        return model;
+    }
+
+    private static CodegenProperty property(String name, String enumName, String... values) {
+        CodegenProperty property = new CodegenProperty();
+        property.name = name;
+        property.baseName = name;
+        property.isEnum = true;
+        property.isString = true;
+        property.datatype = "String";
+        property.enumName = enumName;
+        property.datatypeWithEnum = enumName;
+        property.allowableValues = new HashMap<String, Object>();
+        property.allowableValues.put("values", Arrays.asList(values));
+        property.allowableValues.put("enumVars", new ArrayList<Object>());
+        property.vendorExtensions = new HashMap<String, Object>();
+        return property;
+    }
+
+    private static List<CodegenProperty> allLists(CodegenModel model) {
+        List<CodegenProperty> properties = new ArrayList<CodegenProperty>();
+        for (List<CodegenProperty> vars : Arrays.asList(model.vars, model.allVars, model.requiredVars, model.optionalVars)) {
+            if (vars != null) {
+                properties.addAll(vars);
+            }
+        }
+        return properties;
+    }
+
+    private static Set<String> names(String... names) {
+        return new HashSet<String>(Arrays.asList(names));
+    }
+
+}
@@ -0,0 +1,103 @@
+package de.cargath.codegen;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The {@code streamingModels} option writes the same files, and needs less heap than keeping every model.
+ */
+public class StreamingModelsTest {
+
+    private static final File WORK = new File("target/streaming-models");
+
+    private static final int MODELS = 10000;
+
+    // both runs get the same heap, large enough that the run without streamingModels doesn't run out of it
+    private static final String HEAP = "-Xmx1g";
+
+    // streamingModels needed about two thirds of the heap of the run without it (100 MB of 157 MB) on the 10k-model spec
+    private static final double MAX_HEAP_RATIO = 0.8;
+
+    private static final String HEAP_LOG = " MB of heap after collections";
+
+    @Test
+    public void writesTheSameFilesAsWithoutStreaming() throws IOException {
+        File streamed = GoldenFiles.generate("petstore.yaml", "streaming-models", options(true));
+        File kept = GoldenFiles.generate("petstore.yaml", "kept-models", options(false));
+
+        GoldenFiles.assertMatches(streamed, "streaming-models",
+            "Models/Pet.swift",
+            "Models/Tag.swift",
+            "Operations/NetworkClient+Pet.swift");
+        GoldenFiles.assertSameFiles(kept, streamed);
+    }
+
+    @Test(timeout = 600000)
+    public void needsLessHeapThanKeepingEveryModel() throws IOException, InterruptedException {
+        File specFile = new SyntheticSpec(42).models(MODELS).write(new File(WORK, MODELS + "-42.json"));
+        long kept = heapMegabytes(specFile, false);
+        long streamed = heapMegabytes(specFile, true);
+        System.out.println(String.format("%d-42: %d MB of heap after collections with streamingModels, %d MB without",
+            MODELS, streamed, kept));
+
+        assertTrue(String.format("streamingModels needed %d MB of heap, without it %d MB, allowed are %.0f %%",
+            streamed, kept, MAX_HEAP_RATIO * 100), streamed <= kept * MAX_HEAP_RATIO);
+        assertTrue(new File(WORK, MODELS + "-42-true/Network/Source/Models/Model9999.swift").isFile());
+    }
+
+    /**
+     * Generates the spec in a JVM of its own, so the heap the other run left behind doesn't count.
+     *
+     * @return the most heap in use right after a collection, as logged by {@link #main(String[])}.
+     */
+    private static long heapMegabytes(File specFile, boolean streamingModels) throws IOException, InterruptedException {
+        String name = specFile.getName().replace(".json", "-" + streamingModels);
+        File log = new File(WORK, name + ".log");
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, HEAP, "-cp", System.getProperty("java.class.path"),
+            StreamingModelsTest.class.getName(), specFile.getPath(), new File(WORK, name).getPath(),
+            Boolean.toString(streamingModels))
+            .redirectErrorStream(true)
+            .redirectOutput(log)
+            .start();
+        try {
+            assertEquals("Generation with " + HEAP + " failed, see " + log, 0, process.waitFor());
+        } finally {
+            process.destroy();
+        }
+        List<String> lines = Files.readAllLines(log.toPath(), StandardCharsets.UTF_8);
+        String last = lines.isEmpty() ? "" : lines.get(lines.size() - 1);
+        assertTrue("No heap logged in " + log, last.endsWith(HEAP_LOG));
+        return Long.parseLong(last.substring(0, last.length() - HEAP_LOG.length()));
+    }
+
+    /**
+     * Generates a spec, with or without {@code streamingModels}, and logs the heap it needed.
+     */
+    public static void main(String[] args) {
+        HeapWatcher heap = new HeapWatcher();
+        System.gc();
+        heap.start();
+        try {
+            GoldenFiles.generate(new File(args[0]), new File(args[1]), options(Boolean.parseBoolean(args[2])));
+        } finally {
+            heap.stop();
+        }
+        System.out.println(heap.max() / (1024 * 1024) + HEAP_LOG);
+    }
+
+    private static Map<String, String> options(boolean streamingModels) {
+        return Collections.singletonMap(SwiftLWGenerator.STREAMING_MODELS, Boolean.toString(streamingModels));
+    }
+
+}
@@ -0,0 +1,206 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.CodegenProperty;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.text.WordUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The naming callbacks of {@link SwiftLWGenerator} give the same names as the regular expressions
+ * {@link SwiftIdentifiers} replaced, with and without the {@link NamingCache}.
+ *
+ * The expected names were computed with the regular expression implementation of the generator.
+ */
+public class SwiftIdentifiersTest {
+
+    // name, datatype, enum case
+    private static final String[][] ENUM_VAR_NAMES = {
+        {"", "String", "empty"},
+        {"available", "String", "available"},
+        {"Available", "String", "available"},
+        {"AVAILABLE", "String", "available"},
+        {"self", "String", "self"},
+        {"Self", "String", "self"},
+        {"class", "String", "class"},
+        {"Type", "String", "type"},
+        {"protocol", "String", "protocol"},
+        {"true", "String", "true"},
+        {"1st", "String", "_1st"},
+        {"123", "String", "_123"},
+        {"2fa_code", "String", "_2faCode"},
+        {"1-2", "String", "_12"},
+        {"007Bond", "String", "_007bond"},
+        {"snake_case", "String", "snakeCase"},
+        {"kebab-case", "String", "kebabCase"},
+        {"with space", "String", "withSpace"},
+        {"Mixed_Case-Value here", "String", "mixedCaseValueHere"},
+        {"a:b", "String", "aB"},
+        {"(paren)", "String", "paren"},
+        {"__leading", "String", "leading"},
+        {"trailing_", "String", "trailing"},
+        {"UPPER_SNAKE", "String", "upperSnake"},
+        {"Camel1Case", "String", "camel1Case"},
+        {"camelCase", "String", "camelcase"},
+        {"X", "String", "x"},
+        {"\u00e9t\u00e9", "String", "\u00e9T\u00e9"},
+        {"\u00c9t\u00e9", "String", "\u00e9T\u00e9"},
+        {"stra\u00dfe", "String", "stra\u00dfe"},
+        {"\u65e5\u672c", "String", "\u65e5\u672c"},
+        {"na\u00efve_caf\u00e9", "String", "na\u00efveCaf\u00e9"},
+        {"$", "String", "dollar"},
+        {"#", "String", "hash"},
+        {">=", "String", "greaterThanOrEqualTo"},
+        {"1", "Int", "_1"},
+        {"-1", "Int", "number1"},
+        {"1.5", "Double", "_15"},
+        {"+2", "Int32", "numberplus2"},
+        {"-0.25", "Float", "number025"},
+        {"10", "Int64", "_10"},
+        {"one", "Int", "numberOne"},
+    };
+
+    // operationId, method name
+    private static final String[][] OPERATION_IDS = {
+        {"getPet", "getPet"},
+        {"get_pet", "getPet"},
+        {"get-pet", "getPet"},
+        {"Get Pet", "getPet"},
+        {"return", "return"},
+        {"class", "class"},
+        {"1st", "1st"},
+        {"listPets", "listPets"},
+        {"pet.find", "petFind"},
+        {"\u00e9t\u00e9", "t"},
+        {"delete", "delete"},
+    };
+
+    // property name, datatypeWithEnum, enum name
+    private static final String[][] ENUM_NAMES = {
+        {"status", "String", "Status"},
+        {"type", "String", "Type"},
+        {"Type", "Type", "TypeEnum"},
+        {"kind", "Kind", "Kind"},
+        {"1st", "String", "_1st"},
+        {"self", "String", "Self"},
+        {"snake_case", "String", "Snake_case"},
+    };
+
+    @Test
+    public void namesLikeTheRegularExpressions() {
+        assertNames(new SwiftLWGenerator());
+    }
+
+    @Test
+    public void namesLikeTheRegularExpressionsWithoutCache() {
+        SwiftLWGenerator generator = new SwiftLWGenerator();
+        generator.setNamingCacheSize(0);
+        assertNames(generator);
+    }
+
+    @Test
+    public void namesLikeTheRegularExpressionsFromTheCache() {
+        SwiftLWGenerator generator = new SwiftLWGenerator();
+        assertNames(generator);
+        assertNames(generator);
+    }
+
+    @Test
+    public void scansLikeTheRegularExpressions() {
+        List<String> failures = new ArrayList<String>();
+        Pattern leadingDigits = Pattern.compile("^\\d+");
+        char[] separators = {'-', '_', ' ', ':', '(', ')'};
+        for (String[] row : ENUM_VAR_NAMES) {
+            String name = row[0];
+            Matcher matcher = leadingDigits.matcher(name);
+            check(failures, "leadingDigits", name, matcher.find() ? matcher.group(0).length() : 0,
+                SwiftIdentifiers.leadingDigits(name));
+            check(failures, "startsWithDigit", name, name.matches("\\d.*"), SwiftIdentifiers.startsWithDigit(name));
+            check(failures, "isCapitalizedWord", name, name.matches("[A-Z][a-z0-9]+[a-zA-Z0-9]*"),
+                SwiftIdentifiers.isCapitalizedWord(name));
+            check(failures, "spellNumberSigns", name,
+                name.replaceAll("-", "minus").replaceAll("\\+", "plus").replaceAll("\\.", "dot"),
+                SwiftIdentifiers.spellNumberSigns(name));
+            check(failures, "joinCapitalizedWords", name,
+                WordUtils.capitalizeFully(StringUtils.lowerCase(name), separators).replaceAll("[-_ :\\(\\)]", ""),
+                SwiftIdentifiers.joinCapitalizedWords(name));
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+    }
+
+    @Test
+    public void cachesByNameAndDatatype() {
+        NamingCache cache = new NamingCache(10);
+        assertNull(cache.get("1", "Int"));
+        assertEquals("_1", cache.put("1", "Int", "_1"));
+        assertEquals("_1", cache.get("1", "Int"));
+        assertNull(cache.get("1", "String"));
+        assertNull(cache.get("1", null));
+        assertEquals("x", cache.put("1", null, "x"));
+        assertEquals("x", cache.get("1", null));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.hits());
+        assertEquals(3, cache.misses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hits());
+        assertNull(cache.get("1", "Int"));
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedEntry() {
+        NamingCache cache = new NamingCache(2);
+        cache.put("a", null, "A");
+        cache.put("b", null, "B");
+        assertEquals("A", cache.get("a", null));
+        cache.put("c", null, "C");
+
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.get("a", null));
+        assertNull(cache.get("b", null));
+        assertEquals("C", cache.get("c", null));
+    }
+
+    @Test
+    public void cachesNothingWithSizeZero() {
+        NamingCache cache = new NamingCache(0);
+        assertEquals("A", cache.put("a", null, "A"));
+        assertNull(cache.get("a", null));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    private static void assertNames(SwiftLWGenerator generator) {
+        List<String> failures = new ArrayList<String>();
+        for (String[] row : ENUM_VAR_NAMES) {
+            check(failures, "toEnumVarName", row[0] + ": " + row[1], row[2], generator.toEnumVarName(row[0], row[1]));
+        }
+        for (String[] row : OPERATION_IDS) {
+            check(failures, "toOperationId", row[0], row[1], generator.toOperationId(row[0]));
+        }
+        for (String[] row : ENUM_NAMES) {
+            CodegenProperty property = new CodegenProperty();
+            property.name = row[0];
+            property.datatypeWithEnum = row[1];
+            check(failures, "toEnumName", row[0] + ": " + row[1], row[2], generator.toEnumName(property));
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+    }
+
+    private static void check(List<String> failures, String method, String input, Object expected, Object actual) {
+        if (!expected.equals(actual)) {
+            failures.add(method + "(" + input + ") is " + actual + ", expected " + expected);
+        }
+    }
+
+}
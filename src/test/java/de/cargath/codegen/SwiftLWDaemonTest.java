@@ -0,0 +1,366 @@
+package de.cargath.codegen;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.Watchable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The parts of {@link SwiftLWDaemon#watch()}: the debounce on a scripted {@link WatchService}, the registration
+ * of the template folder tree, and the spec files found through {@code $ref}.
+ */
+public class SwiftLWDaemonTest {
+
+    private static final File WORK = new File("target/daemon");
+
+    @Test
+    public void collectsEventsUntilTheFilesAreQuiet() throws Exception {
+        File folder = folder("debounce");
+        File spec = new File(folder, "swagger.yaml");
+        File templates = new File(folder, "templates");
+        ScriptedWatchService watcher = new ScriptedWatchService();
+        Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+        WatchKey specKey = key(folders, folder);
+        WatchKey templateKey = key(folders, templates);
+
+        // an editor saving the spec in two steps and a template, then a later save of the spec
+        watcher.script(
+            event(specKey, StandardWatchEventKinds.ENTRY_CREATE, "swagger.yaml"),
+            event(specKey, StandardWatchEventKinds.ENTRY_MODIFY, "swagger.yaml"),
+            event(templateKey, StandardWatchEventKinds.ENTRY_MODIFY, "model.mustache"),
+            null,
+            event(specKey, StandardWatchEventKinds.ENTRY_MODIFY, "swagger.yaml"),
+            null);
+        SwiftLWDaemon daemon = daemon();
+        daemon.setDebounceMillis(50);
+
+        SwiftLWDaemon.Changes first = daemon.awaitChanges(watcher, folders, templates, files(spec));
+        assertTrue(first.spec);
+        assertTrue(first.templates);
+        assertEquals(Arrays.asList(50L, 50L, 50L), watcher.pollTimeouts);
+
+        SwiftLWDaemon.Changes second = daemon.awaitChanges(watcher, folders, templates, files(spec));
+        assertTrue(second.spec);
+        assertFalse(second.templates);
+        assertEquals(2, watcher.takes);
+        assertTrue(watcher.isEmpty());
+    }
+
+    @Test
+    public void ignoresFilesWhichAreNotWatched() throws Exception {
+        File folder = folder("ignored");
+        File spec = new File(folder, "swagger.yaml");
+        ScriptedWatchService watcher = new ScriptedWatchService();
+        Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+        WatchKey specKey = key(folders, folder);
+        watcher.script(
+            event(specKey, StandardWatchEventKinds.ENTRY_MODIFY, GenerationManifest.FILE_NAME),
+            event(specKey, StandardWatchEventKinds.ENTRY_CREATE, "swagger.yaml.swp"),
+            null);
+
+        SwiftLWDaemon.Changes changes = daemon().awaitChanges(watcher, folders, null, files(spec));
+
+        assertFalse(changes.spec);
+        assertFalse(changes.templates);
+    }
+
+    @Test
+    public void treatsChangesBelowTheTemplateFolderAsTemplateChanges() throws Exception {
+        File folder = folder("nested-templates");
+        File templates = new File(folder, "templates");
+        ScriptedWatchService watcher = new ScriptedWatchService();
+        Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+        WatchKey nestedKey = key(folders, new File(templates, "partials/models"));
+        watcher.script(event(nestedKey, StandardWatchEventKinds.ENTRY_MODIFY, "enum.mustache"), null);
+
+        SwiftLWDaemon.Changes changes = daemon().awaitChanges(watcher, folders, templates, files(new File(folder, "swagger.yaml")));
+
+        assertTrue(changes.templates);
+        assertFalse(changes.spec);
+    }
+
+    @Test
+    public void regeneratesEverythingOnOverflow() throws Exception {
+        File folder = folder("overflow");
+        File templates = new File(folder, "templates");
+        ScriptedWatchService watcher = new ScriptedWatchService();
+        Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+        watcher.script(event(key(folders, folder), StandardWatchEventKinds.OVERFLOW, null), null);
+
+        SwiftLWDaemon.Changes changes = daemon().awaitChanges(watcher, folders, templates, files(new File(folder, "swagger.yaml")));
+
+        assertTrue(changes.spec);
+        assertTrue(changes.templates);
+    }
+
+    @Test
+    public void forgetsFoldersWhichAreGone() throws Exception {
+        File folder = folder("gone");
+        File templates = new File(folder, "templates");
+        ScriptedWatchService watcher = new ScriptedWatchService();
+        Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+        ScriptedWatchKey partials = key(folders, new File(templates, "partials"));
+        partials.valid = false;
+        watcher.script(event(partials, StandardWatchEventKinds.ENTRY_DELETE, "enum.mustache"), null);
+
+        SwiftLWDaemon.Changes changes = daemon().awaitChanges(watcher, folders, templates, files(new File(folder, "swagger.yaml")));
+
+        assertTrue(changes.templates);
+        assertFalse(folders.containsKey(partials));
+    }
+
+    @Test
+    public void registersTheTemplateFolderTree() throws IOException {
+        File templates = new File(folder("tree"), "templates");
+        assertTrue(new File(templates, "partials/models").mkdirs());
+        write(new File(templates, "model.mustache"), "");
+        Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+        WatchService watcher = FileSystems.getDefault().newWatchService();
+        try {
+            SwiftLWDaemon.registerTree(watcher, folders, templates.toPath());
+            assertEquals(paths(templates, new File(templates, "partials"), new File(templates, "partials/models")),
+                new HashSet<Path>(folders.values()));
+
+            // a folder created later is registered on the next change, the others aren't registered twice
+            File created = new File(templates, "partials/operations");
+            assertTrue(created.mkdir());
+            SwiftLWDaemon.registerTree(watcher, folders, templates.toPath());
+            assertEquals(4, folders.size());
+            assertTrue(folders.containsValue(created.toPath()));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void followsReferencesTransitively() throws IOException {
+        File folder = folder("refs");
+        File spec = write(new File(folder, "swagger.yaml"),
+            "definitions:\n"
+                + "  Pet:\n"
+                + "    $ref: 'models/pet.yaml#/Pet'\n"
+                + "  Local:\n"
+                + "    $ref: '#/definitions/Pet'\n"
+                + "  Remote:\n"
+                + "    $ref: 'https://example.com/remote.yaml#/Remote'\n");
+        File pet = write(new File(folder, "models/pet.yaml"),
+            "Pet:\n"
+                + "  properties:\n"
+                + "    tags:\n"
+                + "      items:\n"
+                + "        - $ref: '../common/tag.json#/Tag'\n"
+                + "    owner:\n"
+                + "      $ref: '../swagger.yaml#/definitions/Local'\n");
+        File tag = write(new File(folder, "common/tag.json"), "{\"Tag\": {\"$ref\": \"missing.json#/Missing\"}}");
+
+        assertEquals(files(spec, pet, tag, new File(folder, "common/missing.json")),
+            SwiftLWDaemon.specFiles(spec, new File(folder, "out")));
+    }
+
+    @Test
+    public void leavesOutGeneratedFiles() throws IOException {
+        File folder = folder("generated");
+        File spec = write(new File(folder, "swagger.yaml"),
+            "definitions:\n"
+                + "  Pet:\n"
+                + "    $ref: 'out/Pet.yaml'\n"
+                + "  Report:\n"
+                + "    $ref: '" + GenerationReport.FILE_NAME + "'\n");
+
+        assertEquals(files(spec), SwiftLWDaemon.specFiles(spec, new File(folder, "out")));
+    }
+
+    @Test
+    public void watchesTheOutputFolderOfASpecInIt() throws IOException {
+        // the spec is generated into its own folder, only the files of the generator are left out
+        File folder = folder("spec-in-output");
+        File spec = write(new File(folder, "swagger.yaml"),
+            "definitions:\n"
+                + "  Pet:\n"
+                + "    $ref: 'pet.yaml'\n"
+                + "  Manifest:\n"
+                + "    $ref: '" + GenerationManifest.FILE_NAME + "'\n");
+        File pet = write(new File(folder, "pet.yaml"), "type: object\n");
+
+        assertEquals(files(spec, pet), SwiftLWDaemon.specFiles(spec, folder));
+    }
+
+    private static SwiftLWDaemon daemon() {
+        return new SwiftLWDaemon(new CodegenConfigurator());
+    }
+
+    private static File folder(String name) throws IOException {
+        File folder = new File(WORK, name);
+        GoldenFiles.delete(folder);
+        assertTrue(folder.mkdirs());
+        return folder.getCanonicalFile();
+    }
+
+    private static File write(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file.getCanonicalFile();
+    }
+
+    private static Set<File> files(File... files) throws IOException {
+        Set<File> set = new HashSet<File>();
+        for (File file : files) {
+            set.add(file.getCanonicalFile());
+        }
+        return set;
+    }
+
+    private static Set<Path> paths(File... files) {
+        Set<Path> set = new HashSet<Path>();
+        for (File file : files) {
+            set.add(file.toPath());
+        }
+        return set;
+    }
+
+    private static ScriptedWatchKey key(Map<WatchKey, Path> folders, File folder) {
+        ScriptedWatchKey key = new ScriptedWatchKey();
+        folders.put(key, folder.toPath());
+        return key;
+    }
+
+    /**
+     * @return the key, with one more event to be polled from it.
+     */
+    private static ScriptedWatchKey event(WatchKey key, WatchEvent.Kind<?> kind, String name) {
+        ScriptedWatchKey scripted = (ScriptedWatchKey) key;
+        scripted.events.add(new ScriptedWatchEvent(kind, name == null ? null : new File(name).toPath()));
+        return scripted;
+    }
+
+    /**
+     * Hands out the scripted keys one after the other, {@code null} stands for a poll which timed out.
+     */
+    private static final class ScriptedWatchService implements WatchService {
+        private final List<WatchKey> scripted = new ArrayList<WatchKey>();
+        final List<Long> pollTimeouts = new ArrayList<Long>();
+        int takes;
+
+        void script(WatchKey... keys) {
+            scripted.addAll(Arrays.asList(keys));
+        }
+
+        boolean isEmpty() {
+            return scripted.isEmpty();
+        }
+
+        @Override
+        public WatchKey poll() {
+            return next();
+        }
+
+        @Override
+        public WatchKey poll(long timeout, TimeUnit unit) {
+            pollTimeouts.add(unit.toMillis(timeout));
+            return next();
+        }
+
+        @Override
+        public WatchKey take() {
+            takes++;
+            WatchKey key = next();
+            assertTrue("take() returned without an event", key != null);
+            return key;
+        }
+
+        private WatchKey next() {
+            assertFalse("Polled past the end of the script", scripted.isEmpty());
+            return scripted.remove(0);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A key whose events are polled one batch at a time: every {@link #event} call is its own batch.
+     */
+    private static final class ScriptedWatchKey implements WatchKey {
+        final Deque<WatchEvent<?>> events = new ArrayDeque<WatchEvent<?>>();
+        boolean valid = true;
+
+        @Override
+        public boolean isValid() {
+            return valid;
+        }
+
+        @Override
+        public List<WatchEvent<?>> pollEvents() {
+            return events.isEmpty() ? Collections.<WatchEvent<?>>emptyList()
+                : Collections.<WatchEvent<?>>singletonList(events.poll());
+        }
+
+        @Override
+        public boolean reset() {
+            return valid;
+        }
+
+        @Override
+        public void cancel() {
+            valid = false;
+        }
+
+        @Override
+        public Watchable watchable() {
+            return null;
+        }
+    }
+
+    private static final class ScriptedWatchEvent implements WatchEvent<Path> {
+        private final Kind<?> kind;
+        private final Path context;
+
+        ScriptedWatchEvent(Kind<?> kind, Path context) {
+            this.kind = kind;
+            this.context = context;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Kind<Path> kind() {
+            return (Kind<Path>) kind;
+        }
+
+        @Override
+        public int count() {
+            return 1;
+        }
+
+        @Override
+        public Path context() {
+            return context;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package de.cargath.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Runs the Swift compiler on generated sources. Tests using it are skipped where {@code swiftc} is not on the
+ * {@code PATH}, pass {@code -Dswiftc=<path>} to use another compiler.
+ */
+final class Swiftc {
+
+    private Swiftc() {
+    }
+
+    /**
+     * Skips the calling test unless a Swift compiler is available.
+     */
+    static void assumeAvailable() {
+        assumeTrue("swiftc is not on the PATH", find() != null);
+    }
+
+    /**
+     * Fails unless the Swift files of the given folders and files parse.
+     */
+    static void parse(File... sources) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<String>(Arrays.asList(find().getPath(), "-parse"));
+        command.addAll(swiftFiles(sources));
+        run(command, new File("target"));
+    }
+
+    /**
+     * Compiles the Swift files of the given folders and files into an executable, one of them has to be a
+     * {@code main.swift}, and runs it.
+     *
+     * @return the output of the executable, which has to exit with 0.
+     */
+    static String compileAndRun(File executable, File... sources) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<String>(Arrays.asList(find().getPath(), "-o", executable.getPath()));
+        command.addAll(swiftFiles(sources));
+        run(command, executable.getParentFile());
+        return run(Arrays.asList(executable.getPath()), executable.getParentFile());
+    }
+
+    private static String run(List<String> command, File folder) throws IOException, InterruptedException {
+        folder.mkdirs();
+        File log = new File(folder, new File(command.get(0)).getName() + ".log");
+        Process process = new ProcessBuilder(command)
+            .directory(folder.getAbsoluteFile())
+            .redirectErrorStream(true)
+            .redirectOutput(log)
+            .start();
+        int exitCode;
+        try {
+            exitCode = process.waitFor();
+        } finally {
+            process.destroy();
+        }
+        String output = new String(Files.readAllBytes(log.toPath()), StandardCharsets.UTF_8);
+        assertEquals(command + " failed:\n" + output, 0, exitCode);
+        return output;
+    }
+
+    private static List<String> swiftFiles(File... sources) {
+        List<String> files = new ArrayList<String>();
+        for (File source : sources) {
+            collect(source, files);
+        }
+        return files;
+    }
+
+    private static void collect(File file, List<String> files) {
+        if (file.isDirectory()) {
+            String[] names = file.list();
+            Arrays.sort(names);
+            for (String name : names) {
+                collect(new File(file, name), files);
+            }
+        } else if (file.getName().endsWith(".swift")) {
+            files.add(file.getAbsolutePath());
+        }
+    }
+
+    private static File find() {
+        String configured = System.getProperty("swiftc");
+        if (configured != null) {
+            return new File(configured);
+        }
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String folder : path.split(File.pathSeparator)) {
+            File swiftc = new File(folder, "swiftc");
+            if (swiftc.canExecute()) {
+                return swiftc;
+            }
+        }
+        return null;
+    }
+
+}
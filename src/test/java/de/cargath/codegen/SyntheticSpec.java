@@ -0,0 +1,202 @@
+package de.cargath.codegen;
+
+import io.swagger.models.*;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.PathParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.parameters.SerializableParameter;
+import io.swagger.models.properties.*;
+import io.swagger.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds a deterministic spec shaped like large enterprise specs: many models with nested references,
+ * repeated and large inline enums, arrays, maps, and many tags with path, query and body parameters.
+ *
+ * The same seed and sizes always give the same spec, so outputs can be compared with golden files.
+ */
+final class SyntheticSpec {
+
+    // value sets repeated across models, like the status/currency/country enums of real specs
+    private static final List<List<String>> COMMON_ENUMS = Arrays.asList(
+        Arrays.asList("ACTIVE", "INACTIVE", "PENDING", "DELETED"),
+        Arrays.asList("EUR", "USD", "GBP", "CHF", "JPY"),
+        Arrays.asList("de", "at", "ch", "fr", "it", "nl", "be"),
+        Arrays.asList("low", "medium", "high")
+    );
+
+    private static final String[] ENUM_PROPERTY_NAMES = {"status", "currency", "country", "priority"};
+
+    private final long seed;
+    private int models = 1000;
+    private int depth = 8;
+    private int enumSize = 200;
+    private int tags = 50;
+    private int operationsPerTag = 10;
+
+    SyntheticSpec(long seed) {
+        this.seed = seed;
+    }
+
+    SyntheticSpec models(int models) {
+        this.models = models;
+        return this;
+    }
+
+    /**
+     * Models reference the next model up to this many levels deep.
+     */
+    SyntheticSpec depth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Number of values of the large enums, one in every 50 models.
+     */
+    SyntheticSpec enumSize(int enumSize) {
+        this.enumSize = enumSize;
+        return this;
+    }
+
+    SyntheticSpec tags(int tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    SyntheticSpec operationsPerTag(int operationsPerTag) {
+        this.operationsPerTag = operationsPerTag;
+        return this;
+    }
+
+    Swagger build() {
+        Random random = new Random(seed);
+        Swagger swagger = new Swagger()
+            .info(new Info().title("Synthetic").version("1.0.0"))
+            .host("api.example.com")
+            .basePath("/v1")
+            .scheme(Scheme.HTTPS);
+
+        for (int i = 0; i < models; i++) {
+            swagger.addDefinition(modelName(i), model(i, random));
+        }
+        for (int t = 0; t < tags; t++) {
+            String tag = "tag" + t;
+            swagger.addTag(new Tag().name(tag));
+            for (int o = 0; o < operationsPerTag; o++) {
+                addOperations(swagger, tag, o, random);
+            }
+        }
+        return swagger;
+    }
+
+    File write(File file) throws IOException {
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        Json.pretty().writeValue(file, build());
+        return file;
+    }
+
+    private static String modelName(int i) {
+        return "Model" + i;
+    }
+
+    private Model model(int i, Random random) {
+        ModelImpl model = new ModelImpl().type("object").description("Synthetic model " + i);
+        StringProperty id = new StringProperty();
+        id.setRequired(true);
+        model.property("id", id);
+        model.property("createdAt", new DateTimeProperty());
+        model.property("amount", new DoubleProperty());
+        model.property("count", new IntegerProperty());
+        model.property("active", new BooleanProperty());
+
+        // nested chains of depth models, whose last model references no other model
+        boolean last = i % depth == depth - 1 || i + 1 == models;
+        if (!last) {
+            model.property("child", new RefProperty(modelName(i + 1)));
+        }
+        // other references point at the last models of chains, swagger-codegen expands every reference
+        // into the example responses and would need exponential time and memory for a random graph
+        if (!last && random.nextInt(4) == 0) {
+            model.property("items", new ArrayProperty(new RefProperty(modelName(leaf(random)))));
+        }
+        if (random.nextInt(8) == 0) {
+            model.property("attributes", new MapProperty(new StringProperty()));
+        }
+        if (!last && random.nextInt(16) == 0) {
+            model.setAdditionalProperties(new RefProperty(modelName(leaf(random))));
+        }
+
+        int common = random.nextInt(COMMON_ENUMS.size());
+        model.property(ENUM_PROPERTY_NAMES[common], new StringProperty()._enum(COMMON_ENUMS.get(common)));
+        if (i % 50 == 0) {
+            List<String> values = new ArrayList<String>(enumSize);
+            for (int v = 0; v < enumSize; v++) {
+                values.add("VALUE_" + i + "_" + v);
+            }
+            model.property("code", new StringProperty()._enum(values));
+        }
+        return model;
+    }
+
+    /**
+     * @return a random model at the end of a chain.
+     */
+    private int leaf(Random random) {
+        int chains = (models + depth - 1) / depth;
+        return Math.min(random.nextInt(chains) * depth + depth - 1, models - 1);
+    }
+
+    private void addOperations(Swagger swagger, String tag, int o, Random random) {
+        String response = modelName(random.nextInt(models));
+        String body = modelName(random.nextInt(models));
+
+        Operation get = new Operation()
+            .tag(tag)
+            .operationId(tag + "Get" + o)
+            .parameter(parameter(new PathParameter(), "id", "string", null))
+            .parameter(parameter(new QueryParameter(), "filter", "string", null))
+            .parameter(parameter(new QueryParameter(), "limit", "integer", null))
+            .response(200, new Response().description("OK").schema(new RefProperty(response)));
+        Operation list = new Operation()
+            .tag(tag)
+            .operationId(tag + "List" + o)
+            .parameter(parameter(new QueryParameter(), "status", "string", COMMON_ENUMS.get(0)))
+            .response(200, new Response().description("OK").schema(new ArrayProperty(new RefProperty(response))));
+        Operation post = new Operation()
+            .tag(tag)
+            .operationId(tag + "Create" + o)
+            .parameter(bodyParameter(new RefModel(body)))
+            .response(200, new Response().description("OK").schema(new RefProperty(response)));
+
+        swagger.path("/" + tag + "/resource" + o + "/{id}", new Path().get(get));
+        swagger.path("/" + tag + "/resource" + o, new Path().get(list).post(post));
+    }
+
+    private static SerializableParameter parameter(SerializableParameter parameter, String name, String type, List<String> values) {
+        parameter.setName(name);
+        parameter.setType(type);
+        parameter.setRequired(parameter instanceof PathParameter);
+        if (values != null) {
+            parameter.setEnum(values);
+        }
+        return parameter;
+    }
+
+    private static BodyParameter bodyParameter(Model schema) {
+        BodyParameter parameter = new BodyParameter();
+        parameter.setName("body");
+        parameter.setRequired(true);
+        parameter.setSchema(schema);
+        return parameter;
+    }
+
+}
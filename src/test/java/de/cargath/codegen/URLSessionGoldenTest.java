@@ -0,0 +1,53 @@
+package de.cargath.codegen;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Golden files of the URLSession layer: the shared coders with the date formats of the spec, the session queue
+ * and decoding queue of the client, the percent-encoded paths and query items, and the async variants of the operations.
+ */
+public class URLSessionGoldenTest {
+
+    @Test
+    public void generatesSharedCodersAndDecodesOffTheSessionQueue() throws IOException {
+        File sources = GoldenFiles.generate("petstore.yaml", "urlsession", Collections.<String, String>emptyMap());
+
+        GoldenFiles.assertMatches(sources, "urlsession",
+            "NetworkClient.swift",
+            "NetworkCoders.swift",
+            "Extensions/URLRequest+Network.swift",
+            "Extensions/URLSession+Network.swift",
+            "Models/Pet.swift");
+    }
+
+    @Test
+    public void percentEncodesPathsAndQueryItems() throws IOException {
+        // a path with characters to be encoded around a string and an enum parameter, and an array of enums in the query
+        File sources = GoldenFiles.generate("encoding.yaml", "encoding", Collections.<String, String>emptyMap());
+
+        GoldenFiles.assertMatches(sources, "encoding",
+            "Operations/NetworkClient+Files.swift",
+            "Operations/NetworkClient+FilesQueryItem.swift");
+    }
+
+    @Test(timeout = 600000)
+    public void parsesThePercentEncoding() throws IOException, InterruptedException {
+        Swiftc.assumeAvailable();
+        Swiftc.parse(GoldenFiles.generate("encoding.yaml", "encoding-parse", Collections.<String, String>emptyMap()));
+    }
+
+    @Test
+    public void generatesAsyncVariants() throws IOException {
+        File sources = GoldenFiles.generate("petstore.yaml", "async",
+            Collections.singletonMap(SwiftLWGenerator.ASYNC_AWAIT, Boolean.TRUE.toString()));
+
+        GoldenFiles.assertMatches(sources, "async",
+            "NetworkClient+Async.swift",
+            "Operations/NetworkClient+Pet.swift");
+    }
+
+}
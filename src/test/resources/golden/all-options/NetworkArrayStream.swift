@@ -0,0 +1,230 @@
+//
+// NetworkArrayStream.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+/// Splits a JSON array into batches of elements while it is received.
+///
+/// Only the bytes of the current batch are kept: every complete batch is handed out as a JSON array of its own,
+/// so it can be decoded as `[T]` and released before the rest of the response arrives.
+struct NetworkJSONArrayScanner {
+
+    let batchSize: Int
+
+    /// Whether the closing bracket of the array has been scanned.
+    private(set) var isFinished = false
+
+    private var isStarted = false
+    // nesting depth, 1 within the top level array
+    private var depth = 0
+    private var inString = false
+    private var escaped = false
+    private var inElement = false
+    private var count = 0
+    private var buffer = Data([0x5b])
+
+    init(batchSize: Int) {
+        self.batchSize = max(1, batchSize)
+    }
+
+    /// Scans the next chunk of the response.
+    ///
+    /// - parameter flush: called with every complete batch, a JSON array of at most `batchSize` elements.
+    mutating func scan(_ chunk: Data, flush: (Data) throws -> Void) throws {
+        // start of the bytes of the current element which are not in the buffer yet
+        var start = chunk.startIndex
+        for index in chunk.indices {
+            let byte = chunk[index]
+            if inString {
+                if escaped {
+                    escaped = false
+                } else if byte == 0x5c {
+                    escaped = true
+                } else if byte == 0x22 {
+                    inString = false
+                }
+                continue
+            }
+            if !isStarted || isFinished {
+                if isWhitespace(byte) {
+                    continue
+                }
+                guard !isFinished, byte == 0x5b else {
+                    throw NetworkError(code: -1, message: "Antwort ist kein JSON-Array.")
+                }
+                isStarted = true
+                depth = 1
+                continue
+            }
+            switch byte {
+            case 0x22:
+                inString = true
+                beginElement(at: index, start: &start)
+            case 0x5b, 0x7b:
+                depth += 1
+                beginElement(at: index, start: &start)
+            case 0x5d where depth == 1:
+                if inElement {
+                    endElement(chunk[start..<index])
+                }
+                if count > 0 {
+                    try flushBatch(flush)
+                }
+                isFinished = true
+                depth = 0
+            case 0x5d, 0x7d:
+                depth -= 1
+            case 0x2c where depth == 1:
+                if inElement {
+                    endElement(chunk[start..<index])
+                }
+                if count == batchSize {
+                    try flushBatch(flush)
+                }
+            default:
+                if depth == 1 && !inElement && isWhitespace(byte) {
+                    continue
+                }
+                beginElement(at: index, start: &start)
+            }
+        }
+        if inElement {
+            buffer.append(chunk[start..<chunk.endIndex])
+        }
+    }
+
+    private mutating func beginElement(at index: Data.Index, start: inout Data.Index) {
+        if !inElement {
+            inElement = true
+            start = index
+            if count > 0 {
+                buffer.append(0x2c)
+            }
+        }
+    }
+
+    private mutating func endElement(_ bytes: Data) {
+        buffer.append(bytes)
+        inElement = false
+        count += 1
+    }
+
+    private mutating func flushBatch(_ flush: (Data) throws -> Void) throws {
+        buffer.append(0x5d)
+        let batch = buffer
+        buffer = Data([0x5b])
+        count = 0
+        try flush(batch)
+    }
+
+    private func isWhitespace(_ byte: UInt8) -> Bool {
+        return byte == 0x20 || byte == 0x0a || byte == 0x0d || byte == 0x09
+    }
+
+}
+
+/// Hands the data of streaming tasks to their receivers, as it arrives.
+final class NetworkArrayStreamDelegate: NSObject, URLSessionDataDelegate {
+
+    private struct Receiver {
+        let receive: (URLSessionTask, Data) -> Void
+        let complete: (Error?) -> Void
+    }
+
+    private var receivers = [Int: Receiver]()
+    private let lock = NSLock()
+
+    func register(_ task: URLSessionTask, receive: @escaping (URLSessionTask, Data) -> Void, complete: @escaping (Error?) -> Void) {
+        lock.lock()
+        defer { lock.unlock() }
+        receivers[task.taskIdentifier] = Receiver(receive: receive, complete: complete)
+    }
+
+    private func receiver(for task: URLSessionTask) -> Receiver? {
+        lock.lock()
+        defer { lock.unlock() }
+        return receivers[task.taskIdentifier]
+    }
+
+    private func remove(_ task: URLSessionTask) -> Receiver? {
+        lock.lock()
+        defer { lock.unlock() }
+        return receivers.removeValue(forKey: task.taskIdentifier)
+    }
+
+    func urlSession(_ session: URLSession, dataTask: URLSessionDataTask, didReceive response: URLResponse, completionHandler: @escaping (URLSession.ResponseDisposition) -> Void) {
+        if let response = response as? HTTPURLResponse, !(200..<300).contains(response.statusCode) {
+            remove(dataTask)?.complete(NetworkError(code: response.statusCode, message: HTTPURLResponse.localizedString(forStatusCode: response.statusCode)))
+            completionHandler(.cancel)
+            return
+        }
+        completionHandler(.allow)
+    }
+
+    func urlSession(_ session: URLSession, dataTask: URLSessionDataTask, didReceive data: Data) {
+        receiver(for: dataTask)?.receive(dataTask, data)
+    }
+
+    func urlSession(_ session: URLSession, task: URLSessionTask, didCompleteWithError error: Error?) {
+        remove(task)?.complete(error)
+    }
+
+}
+
+extension NetworkClient {
+
+    static let arrayStreamDelegate = NetworkArrayStreamDelegate()
+
+    /// Session for streaming tasks. Its delegate queue is serial, so the chunks of a response are scanned in order.
+    static let streamingSession: URLSession = {
+        let queue = OperationQueue()
+        queue.name = "NetworkClient.streaming"
+        queue.qualityOfService = .userInitiated
+        queue.maxConcurrentOperationCount = 1
+        return URLSession(configuration: .default, delegate: arrayStreamDelegate, delegateQueue: queue)
+    }()
+
+    /// Sends a request whose response is a JSON array and decodes its elements in batches while it is received,
+    /// so at most one batch of the response is held in memory at a time.
+    ///
+    /// - parameter batchSize: Maximum number of elements per batch.
+    /// - parameter callbackQueue: Queue to call `batch` and `completion` on, `callbackQueue` of the client if `nil`.
+    /// - parameter batch: Called on the callback queue with every batch of decoded elements, in order as long as the queue is serial.
+    /// - parameter completion: Called on the callback queue after the last batch, with the error if the request or decoding failed.
+    @discardableResult
+    class func stream<T: Decodable>(_ request: URLRequest, batchSize: Int, callbackQueue: DispatchQueue? = nil, batch: @escaping ([T]) -> Void, completion: @escaping (Error?) -> Void) -> URLSessionDataTask {
+        let callbackQueue = callbackQueue ?? self.callbackQueue
+        var scanner = NetworkJSONArrayScanner(batchSize: batchSize)
+        var failure: Error?
+
+        let task = streamingSession.dataTask(with: request)
+        arrayStreamDelegate.register(task, receive: { task, data in
+            guard failure == nil else {
+                return
+            }
+            do {
+                try scanner.scan(data) { bytes in
+                    let elements = try NetworkCoders.decoder.decode([T].self, from: bytes)
+                    callbackQueue.async {
+                        batch(elements)
+                    }
+                }
+            } catch {
+                failure = error
+                task.cancel()
+            }
+        }, complete: { error in
+            let error = failure ?? error ?? (scanner.isFinished ? nil : NetworkError(code: -1, message: "Antwort unvollständig."))
+            callbackQueue.async {
+                completion(error)
+            }
+        })
+        task.resume()
+        return task
+    }
+
+}
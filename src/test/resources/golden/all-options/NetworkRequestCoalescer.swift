@@ -0,0 +1,56 @@
+//
+// NetworkRequestCoalescer.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+/// Lets concurrent identical requests share one data task and one decoded response.
+///
+/// Requests are identical if they have the same method, path and query items (in any order) and expect the same type.
+/// Only safe operations (GET, HEAD, OPTIONS) are coalesced, other headers are not compared.
+final class NetworkRequestCoalescer {
+
+    private var waiters = [String: [(Any?, URLResponse?, Error?) -> Void]]()
+    private let lock = NSLock()
+
+    static func key<T>(for request: URLRequest, type: T.Type) -> String? {
+        guard let url = request.url, var components = URLComponents(url: url, resolvingAgainstBaseURL: true) else {
+            return nil
+        }
+        let queryItems = (components.queryItems ?? []).sorted { ($0.name, $0.value ?? "") < ($1.name, $1.value ?? "") }
+        components.queryItems = queryItems.isEmpty ? nil : queryItems
+        return [request.httpMethod ?? "GET", components.string ?? url.absoluteString, String(reflecting: type)].joined(separator: " ")
+    }
+
+    /// Waits for the result of a request.
+    ///
+    /// - returns: `true` if no identical request is in flight, so the caller has to send it
+    ///            and hand its result to `complete(_:value:response:error:)`.
+    func join<T>(_ key: String, completionHandler: @escaping (T?, URLResponse?, Error?) -> Void) -> Bool {
+        let waiter: (Any?, URLResponse?, Error?) -> Void = { value, response, error in
+            completionHandler(value as? T, response, error)
+        }
+        lock.lock()
+        defer { lock.unlock() }
+        if waiters[key] != nil {
+            waiters[key]?.append(waiter)
+            return false
+        }
+        waiters[key] = [waiter]
+        return true
+    }
+
+    /// Hands the result of a request to everyone waiting for it.
+    func complete<T>(_ key: String, value: T?, response: URLResponse?, error: Error?) {
+        lock.lock()
+        let completed = waiters.removeValue(forKey: key) ?? []
+        lock.unlock()
+        for waiter in completed {
+            waiter(value, response, error)
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+//
+// NetworkRequestMetrics.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+/// Timings and sizes of a single request of an operation.
+///
+/// Intervals are in seconds and `nil` if they did not happen, e.g. no DNS lookup on a reused connection.
+public struct NetworkRequestMetrics {
+
+    /// The `operationId` of the operation in the spec.
+    public let operationId: String
+
+    /// The tag of the operation in the spec.
+    public let tag: String
+
+    public let method: String
+    public let url: URL?
+    public let statusCode: Int?
+    public let error: Error?
+
+    public let domainLookup: TimeInterval?
+    public let connect: TimeInterval?
+    public let secureConnection: TimeInterval?
+    public let isReusedConnection: Bool
+
+    /// From sending the request until the first byte of the response.
+    public let timeToFirstByte: TimeInterval?
+
+    /// From the first until the last byte of the response.
+    public let transfer: TimeInterval?
+
+    /// From creating the task until it completed.
+    public let total: TimeInterval
+
+    public let requestBytes: Int64
+    public let responseBytes: Int64
+
+    /// Time spent decoding the response.
+    public let decode: TimeInterval?
+
+}
+
+/// Receives the metrics of the sampled requests, see `NetworkClient.metricsObserver`.
+public protocol NetworkMetricsObserver: AnyObject {
+
+    /// Called on a background queue, one request at a time.
+    func didFinish(_ metrics: NetworkRequestMetrics)
+
+}
+
+/// Collects the metrics of the sampled requests as the session delegate and hands them to the observer.
+final class NetworkMetricsCollector: NSObject, URLSessionTaskDelegate {
+
+    /// A sampled request, complete once both the task metrics and the decoding time are in.
+    final class Record {
+        let operation: (id: String, tag: String)
+        private var taskMetrics: URLSessionTaskMetrics?
+        private var task: URLSessionTask?
+        private var decode: TimeInterval?
+        private var decoded = false
+        private let lock = NSLock()
+        private weak var collector: NetworkMetricsCollector?
+
+        fileprivate init(operation: (id: String, tag: String), collector: NetworkMetricsCollector) {
+            self.operation = operation
+            self.collector = collector
+        }
+
+        /// Measures the decoding of a response.
+        func decoding(_ body: () -> Void) {
+            let start = DispatchTime.now()
+            body()
+            let end = DispatchTime.now()
+            lock.lock()
+            decode = TimeInterval(end.uptimeNanoseconds - start.uptimeNanoseconds) / 1_000_000_000
+            decoded = true
+            lock.unlock()
+            finishIfComplete()
+        }
+
+        fileprivate func collected(_ metrics: URLSessionTaskMetrics, for task: URLSessionTask) {
+            lock.lock()
+            taskMetrics = metrics
+            self.task = task
+            lock.unlock()
+            finishIfComplete()
+        }
+
+        private func finishIfComplete() {
+            lock.lock()
+            guard decoded, let metrics = taskMetrics, let task = task else {
+                lock.unlock()
+                return
+            }
+            let decode = self.decode
+            // only finish once
+            taskMetrics = nil
+            lock.unlock()
+            collector?.deliver(NetworkMetricsCollector.requestMetrics(operation, task: task, metrics: metrics, decode: decode))
+        }
+    }
+
+    private var records = [Int: Record]()
+    private let lock = NSLock()
+    private let queue = DispatchQueue(label: "NetworkClient.metrics", qos: .utility)
+
+    /// - returns: a record for the request, `nil` if it is not sampled.
+    func record(_ operation: (id: String, tag: String)?) -> Record? {
+        guard let operation = operation, NetworkClient.metricsObserver != nil,
+            NetworkClient.metricsSampleRate >= 1 || Double.random(in: 0..<1) < NetworkClient.metricsSampleRate else {
+            return nil
+        }
+        return Record(operation: operation, collector: self)
+    }
+
+    /// Must be called before the task is resumed.
+    func register(_ record: Record?, for task: URLSessionTask) {
+        guard let record = record else {
+            return
+        }
+        lock.lock()
+        defer { lock.unlock() }
+        records[task.taskIdentifier] = record
+    }
+
+    func urlSession(_ session: URLSession, task: URLSessionTask, didFinishCollecting metrics: URLSessionTaskMetrics) {
+        lock.lock()
+        let record = records.removeValue(forKey: task.taskIdentifier)
+        lock.unlock()
+        record?.collected(metrics, for: task)
+    }
+
+    fileprivate func deliver(_ metrics: NetworkRequestMetrics) {
+        queue.async {
+            NetworkClient.metricsObserver?.didFinish(metrics)
+        }
+    }
+
+    fileprivate static func requestMetrics(_ operation: (id: String, tag: String), task: URLSessionTask, metrics: URLSessionTaskMetrics, decode: TimeInterval?) -> NetworkRequestMetrics {
+        let transaction = metrics.transactionMetrics.last
+        func interval(_ start: Date?, _ end: Date?) -> TimeInterval? {
+            guard let start = start, let end = end else {
+                return nil
+            }
+            return end.timeIntervalSince(start)
+        }
+        return NetworkRequestMetrics(
+            operationId: operation.id,
+            tag: operation.tag,
+            method: task.originalRequest?.httpMethod ?? "GET",
+            url: task.originalRequest?.url,
+            statusCode: (task.response as? HTTPURLResponse)?.statusCode,
+            error: task.error,
+            domainLookup: interval(transaction?.domainLookupStartDate, transaction?.domainLookupEndDate),
+            connect: interval(transaction?.connectStartDate, transaction?.connectEndDate),
+            secureConnection: interval(transaction?.secureConnectionStartDate, transaction?.secureConnectionEndDate),
+            isReusedConnection: transaction?.isReusedConnection ?? false,
+            timeToFirstByte: interval(transaction?.requestStartDate, transaction?.responseStartDate),
+            transfer: interval(transaction?.responseStartDate, transaction?.responseEndDate),
+            total: metrics.taskInterval.duration,
+            requestBytes: task.countOfBytesSent,
+            responseBytes: task.countOfBytesReceived,
+            decode: decode)
+    }
+
+}
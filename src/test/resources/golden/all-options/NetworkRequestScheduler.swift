@@ -0,0 +1,162 @@
+//
+// NetworkRequestScheduler.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+/// Limits the number of requests running at the same time per host, and starts the queued requests by priority.
+///
+/// Every host has a lane per priority. While requests of several priorities are waiting, the lanes take turns
+/// in the ratio of their weights (8 high, 4 normal, 1 low), so interactive requests go first
+/// without starving prefetches. Requests of the same priority start in the order they were resumed.
+public final class NetworkRequestScheduler {
+
+    public enum Priority: Int, CaseIterable {
+        case low
+        case normal
+        case high
+
+        /// Share of the turns of the lane while requests of several priorities are waiting.
+        var weight: Int {
+            switch self {
+            case .low: return 1
+            case .normal: return 4
+            case .high: return 8
+            }
+        }
+
+        /// Hint for URLSession, which prioritizes the tasks of a host on an HTTP/2 connection.
+        var taskPriority: Float {
+            switch self {
+            case .low: return URLSessionTask.lowPriority
+            case .normal: return URLSessionTask.defaultPriority
+            case .high: return URLSessionTask.highPriority
+            }
+        }
+    }
+
+    /// A task which is created, and waits to be resumed or runs.
+    private final class Ticket {
+        let host: String
+        let priority: Priority
+        var task: URLSessionTask?
+        var isQueued = false
+        var isRunning = false
+
+        init(host: String, priority: Priority) {
+            self.host = host
+            self.priority = priority
+        }
+    }
+
+    /// The waiting tickets of a host, by priority, and the turns left to each priority until the next round.
+    private struct HostQueue {
+        var lanes = [[Ticket]](repeating: [], count: Priority.allCases.count)
+        var turns = Priority.allCases.map { $0.weight }
+        var running = 0
+
+        var isIdle: Bool {
+            return running == 0 && lanes.allSatisfy { $0.isEmpty }
+        }
+
+        mutating func next() -> Ticket? {
+            for _ in 0..<2 {
+                for priority in Priority.allCases.reversed() where turns[priority.rawValue] > 0 && !lanes[priority.rawValue].isEmpty {
+                    turns[priority.rawValue] -= 1
+                    return lanes[priority.rawValue].removeFirst()
+                }
+                // every waiting lane used up its turns, start the next round
+                turns = Priority.allCases.map { $0.weight }
+            }
+            return nil
+        }
+
+        mutating func remove(_ ticket: Ticket) {
+            lanes[ticket.priority.rawValue].removeAll { $0 === ticket }
+        }
+    }
+
+    /// Maximum number of requests running at the same time per host.
+    public var maxConcurrentRequestsPerHost: Int {
+        didSet {
+            lock.lock()
+            let hosts = Array(queues.keys)
+            lock.unlock()
+            hosts.forEach(drain)
+        }
+    }
+
+    private var queues = [String: HostQueue]()
+    private var tickets = [ObjectIdentifier: Ticket]()
+    private let lock = NSLock()
+
+    public init(maxConcurrentRequestsPerHost: Int = 4) {
+        self.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost
+    }
+
+    /// Creates a data task which is started by `resume(_:)` once its host has room for it.
+    func dataTask(with request: URLRequest, priority: Priority, in session: URLSession, completionHandler: @escaping (Data?, URLResponse?, Error?) -> Void) -> URLSessionDataTask {
+        let ticket = Ticket(host: request.url?.host ?? "", priority: priority)
+        let task = session.dataTask(with: request) { [weak self] data, response, error in
+            self?.finish(ticket)
+            completionHandler(data, response, error)
+        }
+        task.priority = priority.taskPriority
+        ticket.task = task
+        lock.lock()
+        tickets[ObjectIdentifier(task)] = ticket
+        lock.unlock()
+        return task
+    }
+
+    /// Queues a task created by `dataTask(with:priority:in:completionHandler:)`, other tasks are resumed right away.
+    func resume(_ task: URLSessionTask) {
+        lock.lock()
+        guard let ticket = tickets[ObjectIdentifier(task)], !ticket.isQueued else {
+            lock.unlock()
+            task.resume()
+            return
+        }
+        ticket.isQueued = true
+        queues[ticket.host, default: HostQueue()].lanes[ticket.priority.rawValue].append(ticket)
+        lock.unlock()
+        drain(ticket.host)
+    }
+
+    /// Called when a task completes, including tasks cancelled while they were waiting.
+    private func finish(_ ticket: Ticket) {
+        lock.lock()
+        if let task = ticket.task {
+            tickets[ObjectIdentifier(task)] = nil
+        }
+        ticket.task = nil
+        if ticket.isRunning {
+            queues[ticket.host]?.running -= 1
+        } else {
+            queues[ticket.host]?.remove(ticket)
+        }
+        lock.unlock()
+        drain(ticket.host)
+    }
+
+    private func drain(_ host: String) {
+        var start = [URLSessionTask]()
+        lock.lock()
+        if var queue = queues[host] {
+            while queue.running < maxConcurrentRequestsPerHost, let ticket = queue.next() {
+                ticket.isRunning = true
+                queue.running += 1
+                if let task = ticket.task {
+                    start.append(task)
+                }
+            }
+            queues[host] = queue.isIdle ? nil : queue
+        }
+        lock.unlock()
+        start.forEach { $0.resume() }
+    }
+
+}
@@ -0,0 +1,353 @@
+//
+// NetworkClient+Store.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+extension URLRequest {
+
+    static func checkOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "HEAD")
+    }
+
+    static func deleteOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "DELETE")
+    }
+
+    static func getOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "GET")
+    }
+
+    static func getStock() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/stock", httpMethod: "GET")
+    }
+
+    static func listOrders(queryItems: [ListOrdersQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+    static func orderOptions(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "OPTIONS")
+    }
+
+    static func placeOrders() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders", httpMethod: "POST")
+    }
+
+    static func updateOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "PUT")
+    }
+
+}
+
+public extension NetworkClient {
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func checkOrder(orderId: Int64, priority: NetworkRequestScheduler.Priority = .normal, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.checkOrder(orderId: orderId) {
+            send(request, coalesce: true, operation: ("checkOrder", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func checkOrder(orderId: Int64, priority: NetworkRequestScheduler.Priority = .normal) async throws {
+        guard let request = URLRequest.checkOrder(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        try await perform(request, priority: priority)
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func deleteOrder(orderId: Int64, priority: NetworkRequestScheduler.Priority = .low, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.deleteOrder(orderId: orderId) {
+            send(request, operation: ("deleteOrder", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func deleteOrder(orderId: Int64, priority: NetworkRequestScheduler.Priority = .low) async throws {
+        guard let request = URLRequest.deleteOrder(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        try await perform(request, priority: priority)
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func getOrder(orderId: Int64, priority: NetworkRequestScheduler.Priority = .high, callbackQueue: DispatchQueue? = nil, success: @escaping (Order) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.getOrder(orderId: orderId) {
+            send(request, cacheTTL: 60, coalesce: true, operation: ("getOrder", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func getOrder(orderId: Int64, priority: NetworkRequestScheduler.Priority = .high) async throws -> Order {
+        guard let request = URLRequest.getOrder(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request, cacheTTL: 60, coalesce: true, operation: ("getOrder", "store"), priority: priority)
+    }
+
+    /**
+
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func getStock(priority: NetworkRequestScheduler.Priority = .normal, callbackQueue: DispatchQueue? = nil, success: @escaping (Stock) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.getStock() {
+            send(request, operation: ("getStock", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func getStock(priority: NetworkRequestScheduler.Priority = .normal) async throws -> Stock {
+        guard let request = URLRequest.getStock() else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request, operation: ("getStock", "store"), priority: priority)
+    }
+
+    /**
+     Decodes the elements of the response in batches while it is received, so at most one batch is held in memory.
+     - parameter batchSize: maximum number of elements per batch
+     - parameter callbackQueue: queue to call the handlers on, `callbackQueue` of the client if `nil`
+     - parameter batch: handler to receive every batch of elements, in order
+     - parameter completion: handler called after the last batch, with the error if the request failed
+     */
+    @discardableResult
+    public class func getStock(batchSize: Int = 100, callbackQueue: DispatchQueue? = nil, batch: @escaping ([Order]) -> Void, completion: @escaping (Error?) -> Void) -> URLSessionDataTask? {
+        if let request = URLRequest.getStock() {
+            return stream(request, batchSize: batchSize, callbackQueue: callbackQueue, batch: batch, completion: completion)
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                completion(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+            return nil
+        }
+    }
+
+    /**
+
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func listOrders(queryItems: [ListOrdersQueryItem], priority: NetworkRequestScheduler.Priority = .normal, callbackQueue: DispatchQueue? = nil, success: @escaping ([Order]) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.listOrders(queryItems: queryItems) {
+            send(request, cacheTTL: 2.5, coalesce: true, operation: ("listOrders", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func listOrders(queryItems: [ListOrdersQueryItem], priority: NetworkRequestScheduler.Priority = .normal) async throws -> [Order] {
+        guard let request = URLRequest.listOrders(queryItems: queryItems) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request, cacheTTL: 2.5, coalesce: true, operation: ("listOrders", "store"), priority: priority)
+    }
+
+    /**
+     Decodes the elements of the response in batches while it is received, so at most one batch is held in memory.
+     - parameter batchSize: maximum number of elements per batch
+     - parameter callbackQueue: queue to call the handlers on, `callbackQueue` of the client if `nil`
+     - parameter batch: handler to receive every batch of elements, in order
+     - parameter completion: handler called after the last batch, with the error if the request failed
+     */
+    @discardableResult
+    public class func listOrders(queryItems: [ListOrdersQueryItem], batchSize: Int = 100, callbackQueue: DispatchQueue? = nil, batch: @escaping ([Order]) -> Void, completion: @escaping (Error?) -> Void) -> URLSessionDataTask? {
+        if let request = URLRequest.listOrders(queryItems: queryItems) {
+            return stream(request, batchSize: batchSize, callbackQueue: callbackQueue, batch: batch, completion: completion)
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                completion(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+            return nil
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func orderOptions(orderId: Int64, priority: NetworkRequestScheduler.Priority = .normal, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.orderOptions(orderId: orderId) {
+            send(request, coalesce: true, operation: ("orderOptions", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func orderOptions(orderId: Int64, priority: NetworkRequestScheduler.Priority = .normal) async throws {
+        guard let request = URLRequest.orderOptions(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        try await perform(request, priority: priority)
+    }
+
+    /**
+
+     - parameter body: (body)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func placeOrders(body: [Order], priority: NetworkRequestScheduler.Priority = .normal, callbackQueue: DispatchQueue? = nil, success: @escaping ([Order]) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.placeOrders().settingHTTPBody(encodable: body) {
+            send(request, operation: ("placeOrders", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter body: (body)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func placeOrders(body: [Order], priority: NetworkRequestScheduler.Priority = .normal) async throws -> [Order] {
+        guard let request = URLRequest.placeOrders().settingHTTPBody(encodable: body) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request, operation: ("placeOrders", "store"), priority: priority)
+    }
+
+    /**
+     Decodes the elements of the response in batches while it is received, so at most one batch is held in memory.
+     - parameter body: (body)  
+     - parameter batchSize: maximum number of elements per batch
+     - parameter callbackQueue: queue to call the handlers on, `callbackQueue` of the client if `nil`
+     - parameter batch: handler to receive every batch of elements, in order
+     - parameter completion: handler called after the last batch, with the error if the request failed
+     */
+    @discardableResult
+    public class func placeOrders(body: [Order], batchSize: Int = 100, callbackQueue: DispatchQueue? = nil, batch: @escaping ([Order]) -> Void, completion: @escaping (Error?) -> Void) -> URLSessionDataTask? {
+        if let request = URLRequest.placeOrders().settingHTTPBody(encodable: body) {
+            return stream(request, batchSize: batchSize, callbackQueue: callbackQueue, batch: batch, completion: completion)
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                completion(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+            return nil
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter body: (body)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func updateOrder(orderId: Int64, body: Order, priority: NetworkRequestScheduler.Priority = .normal, callbackQueue: DispatchQueue? = nil, success: @escaping (Order) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.updateOrder(orderId: orderId).settingHTTPBody(encodable: body) {
+            send(request, operation: ("updateOrder", "store"), priority: priority, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter body: (body)  
+     - parameter priority: lane of `scheduler` to queue the request in
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func updateOrder(orderId: Int64, body: Order, priority: NetworkRequestScheduler.Priority = .normal) async throws -> Order {
+        guard let request = URLRequest.updateOrder(orderId: orderId).settingHTTPBody(encodable: body) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request, operation: ("updateOrder", "store"), priority: priority)
+    }
+
+}
+
@@ -0,0 +1,119 @@
+//
+// NetworkClient+Async.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+/// The task of a request, which may be cancelled before it exists.
+final class NetworkTaskHandle {
+
+    private var task: URLSessionTask?
+    private var isCancelled = false
+    private let lock = NSLock()
+
+    func set(_ task: URLSessionTask?) {
+        lock.lock()
+        self.task = task
+        let cancel = isCancelled
+        lock.unlock()
+        if cancel {
+            task?.cancel()
+        }
+    }
+
+    func cancel() {
+        lock.lock()
+        isCancelled = true
+        let task = self.task
+        lock.unlock()
+        task?.cancel()
+    }
+
+}
+
+@available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+public extension NetworkClient {
+
+    /// Sends a request and decodes its response.
+    ///
+    /// The response is decoded on `decodingQueue` and returned without going through `callbackQueue`.
+    /// Cancelling the calling task cancels the request, unless it is shared with identical requests in flight.
+    internal class func send<T: Decodable>(_ request: URLRequest, cacheTTL: TimeInterval? = nil, coalesce: Bool = false) async throws -> T {
+        let handle = NetworkTaskHandle()
+        do {
+            return try await withTaskCancellationHandler(operation: {
+                try await withCheckedThrowingContinuation { (continuation: CheckedContinuation<T, Error>) in
+                    handle.set(send(request, cacheTTL: cacheTTL, coalesce: coalesce) { (value: T?, _, error) in
+                        if let value = value {
+                            continuation.resume(returning: value)
+                        } else {
+                            continuation.resume(throwing: error ?? NetworkError(code: -1, message: "Keine Fehlermeldung erhalten."))
+                        }
+                    })
+                }
+            }, onCancel: {
+                handle.cancel()
+            })
+        } catch let error as URLError where error.code == .cancelled && Task.isCancelled {
+            throw CancellationError()
+        }
+    }
+
+    /// Sends a request whose response has no body.
+    internal class func perform(_ request: URLRequest) async throws {
+        let handle = NetworkTaskHandle()
+        do {
+            try await withTaskCancellationHandler(operation: {
+                try await withCheckedThrowingContinuation { (continuation: CheckedContinuation<Void, Error>) in
+                    let task = session.dataTask(with: request) { _, _, error in
+                        if let error = error {
+                            continuation.resume(throwing: error)
+                        } else {
+                            continuation.resume()
+                        }
+                    }
+                    handle.set(task)
+                    task.resume()
+                }
+            }, onCancel: {
+                handle.cancel()
+            })
+        } catch let error as URLError where error.code == .cancelled && Task.isCancelled {
+            throw CancellationError()
+        }
+    }
+
+    /// Runs an operation for every input concurrently, with at most `maxConcurrent` operations running at a time.
+    ///
+    /// If an operation throws, the operations still running are cancelled and the error is rethrown.
+    ///
+    /// - returns: the results, in the order of the inputs.
+    static func concurrently<Input, Output>(_ inputs: [Input], maxConcurrent: Int = 8, _ operation: @escaping (Input) async throws -> Output) async throws -> [Output] {
+        return try await withThrowingTaskGroup(of: (Int, Output).self) { group in
+            var results = [Output?](repeating: nil, count: inputs.count)
+            var next = 0
+            while next < min(max(1, maxConcurrent), inputs.count) {
+                let index = next
+                group.addTask {
+                    return (index, try await operation(inputs[index]))
+                }
+                next += 1
+            }
+            while let (index, output) = try await group.next() {
+                results[index] = output
+                if next < inputs.count {
+                    let index = next
+                    group.addTask {
+                        return (index, try await operation(inputs[index]))
+                    }
+                    next += 1
+                }
+            }
+            return results.map { $0! }
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+//
+// NetworkClient+Store.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+extension URLRequest {
+
+    static func checkOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "HEAD")
+    }
+
+    static func deleteOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "DELETE")
+    }
+
+    static func getOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "GET")
+    }
+
+    static func getStock() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/stock", httpMethod: "GET")
+    }
+
+    static func listOrders(queryItems: [ListOrdersQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+    static func orderOptions(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "OPTIONS")
+    }
+
+    static func placeOrders() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders", httpMethod: "POST")
+    }
+
+    static func updateOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "PUT")
+    }
+
+}
+
+public extension NetworkClient {
+
+    /**
+
+     - parameter orderId: (path)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func checkOrder(orderId: Int64) async throws {
+        guard let request = URLRequest.checkOrder(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        try await perform(request)
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func deleteOrder(orderId: Int64) async throws {
+        guard let request = URLRequest.deleteOrder(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        try await perform(request)
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func getOrder(orderId: Int64) async throws -> Order {
+        guard let request = URLRequest.getOrder(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request, cacheTTL: 60)
+    }
+
+    /**
+
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func getStock() async throws -> Stock {
+        guard let request = URLRequest.getStock() else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request)
+    }
+
+    /**
+
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func listOrders(queryItems: [ListOrdersQueryItem]) async throws -> [Order] {
+        guard let request = URLRequest.listOrders(queryItems: queryItems) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request, cacheTTL: 2.5)
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func orderOptions(orderId: Int64) async throws {
+        guard let request = URLRequest.orderOptions(orderId: orderId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        try await perform(request)
+    }
+
+    /**
+
+     - parameter body: (body)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func placeOrders(body: [Order]) async throws -> [Order] {
+        guard let request = URLRequest.placeOrders().settingHTTPBody(encodable: body) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request)
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter body: (body)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func updateOrder(orderId: Int64, body: Order) async throws -> Order {
+        guard let request = URLRequest.updateOrder(orderId: orderId).settingHTTPBody(encodable: body) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request)
+    }
+
+}
+
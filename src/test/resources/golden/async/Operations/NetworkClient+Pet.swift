@@ -0,0 +1,147 @@
+//
+// NetworkClient+Pet.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+extension URLRequest {
+
+    static func addPet() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets", httpMethod: "POST")
+    }
+
+    static func deletePet(petId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets/\(URLComponents.percentEncodedPathParameter(petId))", httpMethod: "DELETE")
+    }
+
+    static func getPet(petId: Int64, queryItems: [GetPetQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets/\(URLComponents.percentEncodedPathParameter(petId))", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+    static func listPets(queryItems: [ListPetsQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+}
+
+public extension NetworkClient {
+
+    /**
+
+     - parameter body: (body)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func addPet(body: Pet, callbackQueue: DispatchQueue? = nil, success: @escaping (Pet) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.addPet().settingHTTPBody(encodable: body) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter body: (body)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func addPet(body: Pet) async throws -> Pet {
+        guard let request = URLRequest.addPet().settingHTTPBody(encodable: body) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request)
+    }
+
+    /**
+
+     - parameter petId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func deletePet(petId: Int64, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.deletePet(petId: petId) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter petId: (path)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func deletePet(petId: Int64) async throws {
+        guard let request = URLRequest.deletePet(petId: petId) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        try await perform(request)
+    }
+
+    /**
+
+     - parameter petId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func getPet(petId: Int64, queryItems: [GetPetQueryItem], callbackQueue: DispatchQueue? = nil, success: @escaping (Pet) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.getPet(petId: petId, queryItems: queryItems) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter petId: (path)  
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func getPet(petId: Int64, queryItems: [GetPetQueryItem]) async throws -> Pet {
+        guard let request = URLRequest.getPet(petId: petId, queryItems: queryItems) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request)
+    }
+
+    /**
+
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func listPets(queryItems: [ListPetsQueryItem], callbackQueue: DispatchQueue? = nil, success: @escaping ([Pet]) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.listPets(queryItems: queryItems) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - throws: `CancellationError` if the calling task is cancelled
+     */
+    @available(iOS 13.0, macOS 10.15, tvOS 13.0, watchOS 6.0, *)
+    public class func listPets(queryItems: [ListPetsQueryItem]) async throws -> [Pet] {
+        guard let request = URLRequest.listPets(queryItems: queryItems) else {
+            throw NetworkError(code: -1, message: "Keine Parameter erhalten.")
+        }
+        return try await send(request)
+    }
+
+}
+
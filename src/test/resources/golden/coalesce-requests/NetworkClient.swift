@@ -0,0 +1,89 @@
+//
+// NetworkClient.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+public class NetworkClient {
+
+    /// Delegate queue of the session. It is serial, as URLSession requires to call the delegate in order,
+    /// and only hands the responses on to `decodingQueue`.
+    static let sessionQueue: OperationQueue = {
+        let queue = OperationQueue()
+        queue.name = "NetworkClient.session"
+        queue.qualityOfService = .userInitiated
+        queue.maxConcurrentOperationCount = 1
+        return queue
+    }()
+
+    /// Queue on which responses are decoded, so large responses don't block the main thread or the session.
+    static let decodingQueue: OperationQueue = {
+        let queue = OperationQueue()
+        queue.name = "NetworkClient.decoding"
+        queue.qualityOfService = .userInitiated
+        return queue
+    }()
+
+    /// Queue on which the success and failure callbacks are called, unless an operation is passed another one.
+    public static var callbackQueue: DispatchQueue = .main
+
+    static let requestCoalescer = NetworkRequestCoalescer()
+
+    static var session: URLSession = {
+        let configuration = URLSessionConfiguration.default
+        return URLSession(configuration: configuration, delegate: nil, delegateQueue: sessionQueue)
+    }()
+
+    /// Sends a request and decodes its response.
+    ///
+    /// - parameter cacheTTL: Seconds to cache the response for, overriding its `Cache-Control: max-age`.
+    /// - parameter coalesce: Whether to share the response with identical requests in flight, for safe operations only.
+    /// - returns: the task sending the request, `nil` if the response is cached or shared with other requests.
+    @discardableResult
+    class func send<T: Decodable>(_ request: URLRequest, cacheTTL: TimeInterval? = nil, coalesce: Bool = false, completionHandler: @escaping (T?, URLResponse?, Error?) -> Void) -> URLSessionDataTask? {
+        if coalesce, let key = NetworkRequestCoalescer.key(for: request, type: T.self) {
+            if requestCoalescer.join(key, completionHandler: completionHandler) {
+                // the task is shared, so no single caller gets to cancel it
+                load(request, cacheTTL: cacheTTL) { (value: T?, response, error) in
+                    requestCoalescer.complete(key, value: value, response: response, error: error)
+                }
+            }
+            return nil
+        }
+        return load(request, cacheTTL: cacheTTL, completionHandler: completionHandler)
+    }
+
+    /// Sends a request and decodes its response.
+    @discardableResult
+    class func load<T: Decodable>(_ request: URLRequest, cacheTTL: TimeInterval?, completionHandler: @escaping (T?, URLResponse?, Error?) -> Void) -> URLSessionDataTask? {
+        let decode = session.jsonTaskCompletionHandler(completionHandler)
+        let handler: (Data?, URLResponse?, Error?) -> Void = { data, response, error in
+            decodingQueue.addOperation {
+                decode(data, response, error)
+            }
+        }
+        let task = session.dataTask(with: request, completionHandler: handler)
+        task.resume()
+        return task
+    }
+
+    /// - parameter callbackQueue: Queue to call `success` or `failure` on, `callbackQueue` if `nil`.
+    class func completionHandler<T: Decodable>(callbackQueue: DispatchQueue? = nil, success: @escaping (T) -> Void, failure: @escaping (Error) -> Void) -> (T?, URLResponse?, Error?) -> Void {
+        let callbackQueue = callbackQueue ?? self.callbackQueue
+        return { (data, response, error) in
+            if let data = data {
+                callbackQueue.async {
+                    success(data)
+                }
+            } else {
+                callbackQueue.async {
+                    failure(error ?? NetworkError(code: -1, message: "Keine Fehlermeldung erhalten."))
+                }
+            }
+        }
+    }
+
+}
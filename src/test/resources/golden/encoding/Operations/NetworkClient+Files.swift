@@ -0,0 +1,47 @@
+//
+// NetworkClient+Files.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+extension URLRequest {
+
+    static func getSize(folder: String, kind: NetworkClient.Kind_getSize, queryItems: [GetSizeQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/dateien/\(URLComponents.percentEncodedPathParameter(folder))/\(URLComponents.percentEncodedPathParameter(kind.rawValue))/gr%C3%B6%C3%9Fe%20in%20bytes", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+}
+
+public extension NetworkClient {
+
+
+    /**
+     * enum for parameter kind
+     */
+    public enum Kind_getSize: String { 
+        case file = "file"
+        case folder = "folder"
+    }
+
+    /**
+
+     - parameter folder: (path)  
+     - parameter kind: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func getSize(folder: String, kind: Kind_getSize, queryItems: [GetSizeQueryItem], callbackQueue: DispatchQueue? = nil, success: @escaping (Int64) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.getSize(folder: folder, kind: kind, queryItems: queryItems) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+}
+
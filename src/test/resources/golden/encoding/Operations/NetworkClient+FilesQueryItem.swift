@@ -0,0 +1,57 @@
+//
+// FilesQueryItem.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+public struct GetSizeQueryItem: NetworkQueryItem {
+
+    public let percentEncodedName: String
+    public let percentEncodedValue: String?
+    
+    /**
+     * Enum for parameter "sort".
+     */
+    public enum Sort_getSize: String { 
+        case name = "name"
+        case size = "size"
+    }
+
+    /// 
+    public init(sort: Sort_getSize) {
+        percentEncodedName = "sort"
+        percentEncodedValue = URLComponents.percentEncodedQueryValue(sort.rawValue)
+    }
+
+    /**
+     * Enum for parameter "states".
+     */
+    public enum States_getSize: String { 
+        case open = "open"
+        case inReview = "in review"
+    }
+
+    /// 
+    public init(states: [States_getSize]) {
+        percentEncodedName = "states"
+        percentEncodedValue = URLComponents.percentEncodedQueryValues(states.map { $0.rawValue })
+    }
+
+    /// 
+    public init(tags: [String]) {
+        percentEncodedName = "tags"
+        percentEncodedValue = URLComponents.percentEncodedQueryValues(tags)
+    }
+
+    /// 
+    public init(pageSize: Int) {
+        percentEncodedName = "page-size"
+        percentEncodedValue = URLComponents.percentEncodedQueryValue(pageSize)
+    }
+
+}
+
+
@@ -0,0 +1,34 @@
+//
+// URLRequest+Network.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+extension URLRequest {
+
+    init?(percentEncodedPath path: String, percentEncodedQuery query: String? = nil, httpMethod: String) {
+        if let URL = URL(percentEncodedPath: path, percentEncodedQuery: query) {
+            self.init(url: URL)
+            self.httpMethod = httpMethod
+            setValue(NetworkMessagePack.accept, forHTTPHeaderField: "Accept")
+        } else {
+            return nil
+        }
+    }
+
+    func settingHTTPBody<T: Encodable>(encodable: T) -> URLRequest {
+        var copy = self
+        if let httpBody = try? NetworkCoders.encoder.encode(encodable) {
+            copy.httpBody = httpBody
+        }
+        return copy
+    }
+
+    func settingHTTPMethod(httpMethod: String) -> URLRequest {
+        var copy = self
+        copy.httpMethod = httpMethod
+        return copy
+    }
+
+}
@@ -0,0 +1,75 @@
+//
+// NetworkCoders.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+/// The coders used for all request and response bodies.
+///
+/// Creating a coder (and its date formatters) per request is expensive, so all requests share these instances.
+/// Replace or configure them before the first request, they are used from several threads at once afterwards.
+public enum NetworkCoders {
+
+    public static var decoder: JSONDecoder = {
+        let decoder = JSONDecoder()
+        decoder.dateDecodingStrategy = .custom(decodeDate)
+        return decoder
+    }()
+
+    public static var encoder: JSONEncoder = {
+        let encoder = JSONEncoder()
+        encoder.dateEncodingStrategy = .custom(encodeDate)
+        return encoder
+    }()
+
+    /// Decodes responses whose `Content-Type` is MessagePack.
+    public static var messagePackDecoder = NetworkMessagePackDecoder()
+
+    public static var messagePackEncoder = NetworkMessagePackEncoder()
+
+    /// Formats of the dates in the spec, tried in order when decoding. The first one is used for encoding,
+    /// models encode their properties with format date through `fullDateString(_:)` instead.
+    static let dateFormatters: [DateFormatter] = [
+        // date-time (RFC 3339), with and without fractional seconds
+        dateFormatter("yyyy-MM-dd'T'HH:mm:ss.SSSZZZZZ"),
+        dateFormatter("yyyy-MM-dd'T'HH:mm:ssZZZZZ"),
+        fullDateFormatter,
+    ]
+
+    /// date (RFC 3339 full-date)
+    static let fullDateFormatter = dateFormatter("yyyy-MM-dd")
+
+    /// Formats the value of a property with format date.
+    static func fullDateString(_ date: Date) -> String {
+        return fullDateFormatter.string(from: date)
+    }
+
+    static func dateFormatter(_ dateFormat: String) -> DateFormatter {
+        let formatter = DateFormatter()
+        formatter.calendar = Calendar(identifier: .iso8601)
+        formatter.locale = Locale(identifier: "en_US_POSIX")
+        formatter.timeZone = TimeZone(secondsFromGMT: 0)
+        formatter.dateFormat = dateFormat
+        return formatter
+    }
+
+    static func decodeDate(_ decoder: Decoder) throws -> Date {
+        let container = try decoder.singleValueContainer()
+        let string = try container.decode(String.self)
+        for formatter in dateFormatters {
+            if let date = formatter.date(from: string) {
+                return date
+            }
+        }
+        throw DecodingError.dataCorruptedError(in: container, debugDescription: "Unexpected date format: \(string)")
+    }
+
+    static func encodeDate(_ date: Date, _ encoder: Encoder) throws {
+        var container = encoder.singleValueContainer()
+        try container.encode(dateFormatters[0].string(from: date))
+    }
+
+}
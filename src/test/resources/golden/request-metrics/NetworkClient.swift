@@ -0,0 +1,98 @@
+//
+// NetworkClient.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+public class NetworkClient {
+
+    /// Delegate queue of the session. It is serial, as URLSession requires to call the delegate in order,
+    /// and only hands the responses on to `decodingQueue`.
+    static let sessionQueue: OperationQueue = {
+        let queue = OperationQueue()
+        queue.name = "NetworkClient.session"
+        queue.qualityOfService = .userInitiated
+        queue.maxConcurrentOperationCount = 1
+        return queue
+    }()
+
+    /// Queue on which responses are decoded, so large responses don't block the main thread or the session.
+    static let decodingQueue: OperationQueue = {
+        let queue = OperationQueue()
+        queue.name = "NetworkClient.decoding"
+        queue.qualityOfService = .userInitiated
+        return queue
+    }()
+
+    /// Queue on which the success and failure callbacks are called, unless an operation is passed another one.
+    public static var callbackQueue: DispatchQueue = .main
+
+    /// Receives the metrics of the sampled requests, `nil` turns collecting them off.
+    public static var metricsObserver: NetworkMetricsObserver?
+
+    /// Share of the requests whose metrics are collected, from 0 to 1.
+    public static var metricsSampleRate: Double = 1
+
+    static let metricsCollector = NetworkMetricsCollector()
+
+    static var session: URLSession = {
+        let configuration = URLSessionConfiguration.default
+        return URLSession(configuration: configuration, delegate: metricsCollector, delegateQueue: sessionQueue)
+    }()
+
+    /// Sends a request and decodes its response.
+    ///
+    /// - parameter cacheTTL: Seconds to cache the response for, overriding its `Cache-Control: max-age`.
+    /// - parameter coalesce: Whether to share the response with identical requests in flight, for safe operations only.
+    /// - parameter operation: The `operationId` and tag of the operation sending the request, for its metrics.
+    /// - returns: the task sending the request, `nil` if the response is cached or shared with other requests.
+    @discardableResult
+    class func send<T: Decodable>(_ request: URLRequest, cacheTTL: TimeInterval? = nil, coalesce: Bool = false, operation: (id: String, tag: String)? = nil, completionHandler: @escaping (T?, URLResponse?, Error?) -> Void) -> URLSessionDataTask? {
+        return load(request, cacheTTL: cacheTTL, operation: operation, completionHandler: completionHandler)
+    }
+
+    /// Sends a request and decodes its response.
+    @discardableResult
+    class func load<T: Decodable>(_ request: URLRequest, cacheTTL: TimeInterval?, operation: (id: String, tag: String)?, completionHandler: @escaping (T?, URLResponse?, Error?) -> Void) -> URLSessionDataTask? {
+        let record = metricsCollector.record(operation)
+        let jsonHandler = session.jsonTaskCompletionHandler(completionHandler)
+        let decode: (Data?, URLResponse?, Error?) -> Void = { data, response, error in
+            if let record = record {
+                record.decoding {
+                    jsonHandler(data, response, error)
+                }
+            } else {
+                jsonHandler(data, response, error)
+            }
+        }
+        let handler: (Data?, URLResponse?, Error?) -> Void = { data, response, error in
+            decodingQueue.addOperation {
+                decode(data, response, error)
+            }
+        }
+        let task = session.dataTask(with: request, completionHandler: handler)
+        metricsCollector.register(record, for: task)
+        task.resume()
+        return task
+    }
+
+    /// - parameter callbackQueue: Queue to call `success` or `failure` on, `callbackQueue` if `nil`.
+    class func completionHandler<T: Decodable>(callbackQueue: DispatchQueue? = nil, success: @escaping (T) -> Void, failure: @escaping (Error) -> Void) -> (T?, URLResponse?, Error?) -> Void {
+        let callbackQueue = callbackQueue ?? self.callbackQueue
+        return { (data, response, error) in
+            if let data = data {
+                callbackQueue.async {
+                    success(data)
+                }
+            } else {
+                callbackQueue.async {
+                    failure(error ?? NetworkError(code: -1, message: "Keine Fehlermeldung erhalten."))
+                }
+            }
+        }
+    }
+
+}
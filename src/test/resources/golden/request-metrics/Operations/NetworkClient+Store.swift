@@ -0,0 +1,176 @@
+//
+// NetworkClient+Store.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+extension URLRequest {
+
+    static func checkOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "HEAD")
+    }
+
+    static func deleteOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "DELETE")
+    }
+
+    static func getOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "GET")
+    }
+
+    static func getStock() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/stock", httpMethod: "GET")
+    }
+
+    static func listOrders(queryItems: [ListOrdersQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+    static func orderOptions(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "OPTIONS")
+    }
+
+    static func placeOrders() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders", httpMethod: "POST")
+    }
+
+    static func updateOrder(orderId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/orders/\(URLComponents.percentEncodedPathParameter(orderId))", httpMethod: "PUT")
+    }
+
+}
+
+public extension NetworkClient {
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func checkOrder(orderId: Int64, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.checkOrder(orderId: orderId) {
+            send(request, operation: ("checkOrder", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func deleteOrder(orderId: Int64, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.deleteOrder(orderId: orderId) {
+            send(request, operation: ("deleteOrder", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func getOrder(orderId: Int64, callbackQueue: DispatchQueue? = nil, success: @escaping (Order) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.getOrder(orderId: orderId) {
+            send(request, cacheTTL: 60, operation: ("getOrder", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func getStock(callbackQueue: DispatchQueue? = nil, success: @escaping (Stock) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.getStock() {
+            send(request, operation: ("getStock", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func listOrders(queryItems: [ListOrdersQueryItem], callbackQueue: DispatchQueue? = nil, success: @escaping ([Order]) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.listOrders(queryItems: queryItems) {
+            send(request, cacheTTL: 2.5, operation: ("listOrders", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func orderOptions(orderId: Int64, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.orderOptions(orderId: orderId) {
+            send(request, operation: ("orderOptions", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter body: (body)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func placeOrders(body: [Order], callbackQueue: DispatchQueue? = nil, success: @escaping ([Order]) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.placeOrders().settingHTTPBody(encodable: body) {
+            send(request, operation: ("placeOrders", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter orderId: (path)  
+     - parameter body: (body)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func updateOrder(orderId: Int64, body: Order, callbackQueue: DispatchQueue? = nil, success: @escaping (Order) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.updateOrder(orderId: orderId).settingHTTPBody(encodable: body) {
+            send(request, operation: ("updateOrder", "store"), completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+}
+
@@ -0,0 +1,108 @@
+//
+// NetworkClient.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+public class NetworkClient {
+
+    /// Delegate queue of the session. It is serial, as URLSession requires to call the delegate in order,
+    /// and only hands the responses on to `decodingQueue`.
+    static let sessionQueue: OperationQueue = {
+        let queue = OperationQueue()
+        queue.name = "NetworkClient.session"
+        queue.qualityOfService = .userInitiated
+        queue.maxConcurrentOperationCount = 1
+        return queue
+    }()
+
+    /// Queue on which responses are decoded, so large responses don't block the main thread or the session.
+    static let decodingQueue: OperationQueue = {
+        let queue = OperationQueue()
+        queue.name = "NetworkClient.decoding"
+        queue.qualityOfService = .userInitiated
+        return queue
+    }()
+
+    /// Queue on which the success and failure callbacks are called, unless an operation is passed another one.
+    public static var callbackQueue: DispatchQueue = .main
+
+    /// Cache for the responses of GET operations, `nil` disables caching.
+    public static var responseCache: NetworkResponseCache? = NetworkResponseCache()
+
+    static var session: URLSession = {
+        let configuration = URLSessionConfiguration.default
+        // responses are cached and revalidated by responseCache
+        configuration.urlCache = nil
+        configuration.requestCachePolicy = .reloadIgnoringLocalCacheData
+        return URLSession(configuration: configuration, delegate: nil, delegateQueue: sessionQueue)
+    }()
+
+    /// Sends a request and decodes its response.
+    ///
+    /// - parameter cacheTTL: Seconds to cache the response for, overriding its `Cache-Control: max-age`.
+    /// - parameter coalesce: Whether to share the response with identical requests in flight, for safe operations only.
+    /// - returns: the task sending the request, `nil` if the response is cached or shared with other requests.
+    @discardableResult
+    class func send<T: Decodable>(_ request: URLRequest, cacheTTL: TimeInterval? = nil, coalesce: Bool = false, completionHandler: @escaping (T?, URLResponse?, Error?) -> Void) -> URLSessionDataTask? {
+        return load(request, cacheTTL: cacheTTL, completionHandler: completionHandler)
+    }
+
+    /// Sends a request and decodes its response, answering GET requests from `responseCache` while possible.
+    @discardableResult
+    class func load<T: Decodable>(_ request: URLRequest, cacheTTL: TimeInterval?, completionHandler: @escaping (T?, URLResponse?, Error?) -> Void) -> URLSessionDataTask? {
+        let decode = session.jsonTaskCompletionHandler(completionHandler)
+        let handler: (Data?, URLResponse?, Error?) -> Void = { data, response, error in
+            decodingQueue.addOperation {
+                decode(data, response, error)
+            }
+        }
+        if let cache = responseCache, (request.httpMethod ?? "GET") == "GET" {
+            let cached = cache.entry(for: request)
+            if let cached = cached, cached.isFresh {
+                handler(cached.data, cached.response, nil)
+                return nil
+            }
+            let conditionalRequest = cached.map { NetworkResponseCache.conditionalRequest(request, for: $0) } ?? request
+            let task = session.dataTask(with: conditionalRequest) { data, response, error in
+                // the cache writes to disk, keep it off the session queue too
+                decodingQueue.addOperation {
+                    if let cached = cached, let response = response as? HTTPURLResponse, response.statusCode == 304 {
+                        let refreshed = cache.revalidate(cached, for: request, response: response, ttl: cacheTTL)
+                        decode(refreshed.data, refreshed.response, nil)
+                        return
+                    }
+                    if let data = data, let response = response as? HTTPURLResponse, error == nil {
+                        cache.store(data, for: request, response: response, ttl: cacheTTL)
+                    }
+                    decode(data, response, error)
+                }
+            }
+            task.resume()
+            return task
+        }
+        let task = session.dataTask(with: request, completionHandler: handler)
+        task.resume()
+        return task
+    }
+
+    /// - parameter callbackQueue: Queue to call `success` or `failure` on, `callbackQueue` if `nil`.
+    class func completionHandler<T: Decodable>(callbackQueue: DispatchQueue? = nil, success: @escaping (T) -> Void, failure: @escaping (Error) -> Void) -> (T?, URLResponse?, Error?) -> Void {
+        let callbackQueue = callbackQueue ?? self.callbackQueue
+        return { (data, response, error) in
+            if let data = data {
+                callbackQueue.async {
+                    success(data)
+                }
+            } else {
+                callbackQueue.async {
+                    failure(error ?? NetworkError(code: -1, message: "Keine Fehlermeldung erhalten."))
+                }
+            }
+        }
+    }
+
+}
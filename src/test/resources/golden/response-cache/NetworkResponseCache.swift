@@ -0,0 +1,369 @@
+//
+// NetworkResponseCache.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+/// Cache for the responses of GET operations, in memory and optionally on disk.
+///
+/// Responses are used as long as their `Cache-Control: max-age` (or the `x-swiftlw-cache-ttl` of the operation) allows,
+/// and revalidated with `If-None-Match` / `If-Modified-Since` once they are stale.
+/// The least recently used responses are evicted once the cached bodies exceed the capacity in bytes.
+/// Responses are kept apart by the credentials of the request and the request headers named by their `Vary` header.
+public final class NetworkResponseCache {
+
+    /// A cached response.
+    struct Entry: Codable {
+        let url: URL
+        let statusCode: Int
+        let headers: [String: String]
+        let data: Data
+        var expires: Date
+        let revalidate: Bool
+        /// The hashed values of the request headers named by the `Vary` header of the response.
+        let vary: [String: String]
+
+        var isFresh: Bool {
+            return !revalidate && expires > Date()
+        }
+
+        var response: HTTPURLResponse? {
+            return HTTPURLResponse(url: url, statusCode: statusCode, httpVersion: nil, headerFields: headers)
+        }
+
+        func header(_ name: String) -> String? {
+            return headers.first { $0.key.caseInsensitiveCompare(name) == .orderedSame }?.value
+        }
+
+        /// - returns: whether the response can answer a request, given the headers it varies on.
+        func matches(_ request: URLRequest) -> Bool {
+            return vary.allSatisfy { NetworkResponseCache.hash(request.value(forHTTPHeaderField: $0.key) ?? "") == $0.value }
+        }
+    }
+
+    /// The directives of a `Cache-Control` header which matter to a private cache.
+    struct CacheControl {
+        var maxAge: TimeInterval?
+        var noStore = false
+        var noCache = false
+
+        init(_ response: HTTPURLResponse) {
+            let header = response.allHeaderFields.first {
+                ($0.key as? String)?.caseInsensitiveCompare("Cache-Control") == .orderedSame
+            }?.value as? String ?? ""
+            for directive in header.split(separator: ",") {
+                let parts = directive.split(separator: "=", maxSplits: 1).map {
+                    $0.trimmingCharacters(in: CharacterSet.whitespaces.union(CharacterSet(charactersIn: "\"")))
+                }
+                switch parts[0].lowercased() {
+                case "no-store":
+                    noStore = true
+                case "no-cache":
+                    noCache = true
+                case "max-age":
+                    maxAge = parts.count == 2 ? TimeInterval(parts[1]) : nil
+                default:
+                    break
+                }
+            }
+        }
+    }
+
+    private struct StoredEntry: Codable {
+        let key: String
+        let entry: Entry
+    }
+
+    private final class Node {
+        let key: String
+        var entry: Entry
+        weak var previous: Node?
+        var next: Node?
+
+        init(key: String, entry: Entry) {
+            self.key = key
+            self.entry = entry
+        }
+    }
+
+    /// Maximum size of the bodies kept in memory, in bytes.
+    public let memoryCapacity: Int
+
+    /// Maximum size of the responses kept on disk, in bytes. `0` keeps responses in memory only.
+    public let diskCapacity: Int
+
+    private let directory: URL?
+    // guards the entries in memory only, the disk is accessed on diskQueue
+    private let lock = NSLock()
+    private let diskQueue = DispatchQueue(label: "NetworkResponseCache.disk", qos: .utility)
+
+    // least recently used list, most recently used first
+    private var nodes = [String: Node]()
+    private var head: Node?
+    private var tail: Node?
+    private var memoryUsage = 0
+    private var diskUsage: Int?
+
+    /// - parameter memoryCapacity: Maximum size of the bodies kept in memory, in bytes.
+    /// - parameter diskCapacity: Maximum size of the responses kept on disk, in bytes. `0` keeps responses in memory only.
+    /// - parameter directory: Where to keep responses on disk, defaults to a folder in the caches directory.
+    public init(memoryCapacity: Int = 10 * 1024 * 1024, diskCapacity: Int = 0, directory: URL? = nil) {
+        self.memoryCapacity = memoryCapacity
+        self.diskCapacity = diskCapacity
+        if diskCapacity > 0, let directory = directory ?? FileManager.default.urls(for: .cachesDirectory, in: .userDomainMask).first?.appendingPathComponent("NetworkResponseCache", isDirectory: true) {
+            try? FileManager.default.createDirectory(at: directory, withIntermediateDirectories: true, attributes: nil)
+            self.directory = directory
+        } else {
+            self.directory = nil
+        }
+    }
+
+    /// Removes all responses from memory and disk.
+    public func removeAll() {
+        lock.lock()
+        nodes.removeAll()
+        head = nil
+        tail = nil
+        memoryUsage = 0
+        lock.unlock()
+        diskQueue.sync {
+            if let directory = directory, let files = try? FileManager.default.contentsOfDirectory(at: directory, includingPropertiesForKeys: nil, options: []) {
+                for file in files {
+                    try? FileManager.default.removeItem(at: file)
+                }
+            }
+            diskUsage = 0
+        }
+    }
+
+    /// The key of a request: its method, URL and the hash of its credentials, which are not written to disk as they are.
+    static func key(for request: URLRequest) -> String? {
+        guard let url = request.url else {
+            return nil
+        }
+        let key = (request.httpMethod ?? "GET") + " " + url.absoluteString
+        let credentials = self.credentials(of: request)
+        return credentials.isEmpty ? key : key + " " + hash(credentials.joined(separator: "\n"))
+    }
+
+    /// - returns: the `Authorization` and `Cookie` headers of a request, including the cookies the session adds.
+    static func credentials(of request: URLRequest) -> [String] {
+        var credentials = ["Authorization", "Cookie"].compactMap { request.value(forHTTPHeaderField: $0) }
+        if request.httpShouldHandleCookies, let url = request.url, let cookies = HTTPCookieStorage.shared.cookies(for: url), !cookies.isEmpty {
+            credentials += HTTPCookie.requestHeaderFields(with: cookies).values
+        }
+        return credentials
+    }
+
+    /// FNV-1a, which unlike hashValue is the same on every launch.
+    static func hash(_ string: String) -> String {
+        var hash: UInt64 = 0xcbf29ce484222325
+        for byte in string.utf8 {
+            hash = (hash ^ UInt64(byte)) &* 0x100000001b3
+        }
+        return String(hash, radix: 16)
+    }
+
+    /// Adds the validators of a cached response to a request, so the server can answer `304 Not Modified`.
+    static func conditionalRequest(_ request: URLRequest, for entry: Entry) -> URLRequest {
+        var copy = request
+        if let etag = entry.header("ETag") {
+            copy.setValue(etag, forHTTPHeaderField: "If-None-Match")
+        }
+        if let lastModified = entry.header("Last-Modified") {
+            copy.setValue(lastModified, forHTTPHeaderField: "If-Modified-Since")
+        }
+        return copy
+    }
+
+    /// - returns: the cached response for a request, fresh or not.
+    func entry(for request: URLRequest) -> Entry? {
+        guard let key = NetworkResponseCache.key(for: request) else {
+            return nil
+        }
+        lock.lock()
+        if let node = nodes[key] {
+            moveToFront(node)
+            lock.unlock()
+            return node.entry.matches(request) ? node.entry : nil
+        }
+        lock.unlock()
+        guard let entry = diskQueue.sync(execute: { readFromDisk(key) }) else {
+            return nil
+        }
+        lock.lock()
+        if nodes[key] == nil {
+            insert(entry, for: key)
+        }
+        lock.unlock()
+        return entry.matches(request) ? entry : nil
+    }
+
+    /// Caches a successful response, unless its `Cache-Control` forbids it.
+    ///
+    /// - parameter ttl: Seconds to use the response for, overriding its `max-age`.
+    func store(_ data: Data, for request: URLRequest, response: HTTPURLResponse, ttl: TimeInterval?) {
+        guard let key = NetworkResponseCache.key(for: request), (200..<300).contains(response.statusCode), let url = response.url ?? request.url else {
+            return
+        }
+        let cacheControl = CacheControl(response)
+        if cacheControl.noStore {
+            return
+        }
+        var headers = [String: String]()
+        for case let (name as String, value as String) in response.allHeaderFields {
+            headers[name] = value
+        }
+        let varyNames = headers.first { $0.key.caseInsensitiveCompare("Vary") == .orderedSame }?.value
+            .split(separator: ",").map { $0.trimmingCharacters(in: .whitespaces) } ?? []
+        if varyNames.contains("*") {
+            // varies on more than the request headers
+            return
+        }
+        var vary = [String: String]()
+        for name in varyNames {
+            vary[name] = NetworkResponseCache.hash(request.value(forHTTPHeaderField: name) ?? "")
+        }
+        let maxAge = ttl ?? cacheControl.maxAge ?? 0
+        let entry = Entry(url: url, statusCode: response.statusCode, headers: headers, data: data, expires: Date(timeIntervalSinceNow: maxAge), revalidate: ttl == nil && cacheControl.noCache, vary: vary)
+        if maxAge <= 0 && entry.header("ETag") == nil && entry.header("Last-Modified") == nil {
+            // stale right away and nothing to revalidate it with
+            return
+        }
+        lock.lock()
+        insert(entry, for: key)
+        lock.unlock()
+        diskQueue.async {
+            self.writeToDisk(entry, for: key)
+        }
+    }
+
+    /// Refreshes a cached response after the server answered `304 Not Modified`.
+    ///
+    /// - returns: the refreshed response.
+    func revalidate(_ entry: Entry, for request: URLRequest, response: HTTPURLResponse, ttl: TimeInterval?) -> Entry {
+        var refreshed = entry
+        refreshed.expires = Date(timeIntervalSinceNow: ttl ?? CacheControl(response).maxAge ?? 0)
+        if let key = NetworkResponseCache.key(for: request) {
+            lock.lock()
+            insert(refreshed, for: key)
+            lock.unlock()
+            diskQueue.async {
+                self.writeToDisk(refreshed, for: key)
+            }
+        }
+        return refreshed
+    }
+
+    // MARK: Memory
+
+    private func insert(_ entry: Entry, for key: String) {
+        if let node = nodes[key] {
+            memoryUsage -= node.entry.data.count
+            node.entry = entry
+            moveToFront(node)
+        } else {
+            let node = Node(key: key, entry: entry)
+            nodes[key] = node
+            pushFront(node)
+        }
+        memoryUsage += entry.data.count
+        while memoryUsage > memoryCapacity, let last = tail {
+            unlink(last)
+            nodes[last.key] = nil
+            memoryUsage -= last.entry.data.count
+        }
+    }
+
+    private func pushFront(_ node: Node) {
+        node.previous = nil
+        node.next = head
+        head?.previous = node
+        head = node
+        if tail == nil {
+            tail = node
+        }
+    }
+
+    private func unlink(_ node: Node) {
+        node.previous?.next = node.next
+        node.next?.previous = node.previous
+        if head === node {
+            head = node.next
+        }
+        if tail === node {
+            tail = node.previous
+        }
+        node.previous = nil
+        node.next = nil
+    }
+
+    private func moveToFront(_ node: Node) {
+        if head !== node {
+            unlink(node)
+            pushFront(node)
+        }
+    }
+
+    // MARK: Disk, on diskQueue
+
+    private func fileURL(for key: String) -> URL? {
+        return directory?.appendingPathComponent(NetworkResponseCache.hash(key))
+    }
+
+    private func readFromDisk(_ key: String) -> Entry? {
+        guard let url = fileURL(for: key), let data = try? Data(contentsOf: url),
+            let stored = try? PropertyListDecoder().decode(StoredEntry.self, from: data), stored.key == key else {
+            return nil
+        }
+        // the modification date orders the files for eviction
+        try? FileManager.default.setAttributes([.modificationDate: Date()], ofItemAtPath: url.path)
+        return stored.entry
+    }
+
+    private func writeToDisk(_ entry: Entry, for key: String) {
+        guard diskCapacity > 0, let url = fileURL(for: key), let data = try? PropertyListEncoder().encode(StoredEntry(key: key, entry: entry)) else {
+            return
+        }
+        let previousSize = (try? url.resourceValues(forKeys: [.fileSizeKey]))?.fileSize ?? 0
+        guard (try? data.write(to: url, options: .atomic)) != nil else {
+            return
+        }
+        let usage = (diskUsage ?? measureDisk()) + data.count - previousSize
+        diskUsage = usage
+        if usage > diskCapacity {
+            trimDisk()
+        }
+    }
+
+    private func measureDisk() -> Int {
+        return diskFiles().reduce(0) { $0 + $1.size }
+    }
+
+    private func diskFiles() -> [(url: URL, date: Date, size: Int)] {
+        let keys: [URLResourceKey] = [.contentModificationDateKey, .fileSizeKey]
+        guard let directory = directory, let files = try? FileManager.default.contentsOfDirectory(at: directory, includingPropertiesForKeys: keys, options: []) else {
+            return []
+        }
+        return files.compactMap { (file: URL) -> (url: URL, date: Date, size: Int)? in
+            guard let values = try? file.resourceValues(forKeys: Set(keys)) else {
+                return nil
+            }
+            return (file, values.contentModificationDate ?? .distantPast, values.fileSize ?? 0)
+        }
+    }
+
+    private func trimDisk() {
+        let files = diskFiles()
+        var usage = files.reduce(0) { $0 + $1.size }
+        for file in files.sorted(by: { $0.date < $1.date }) where usage > diskCapacity {
+            try? FileManager.default.removeItem(at: file.url)
+            usage -= file.size
+        }
+        diskUsage = usage
+    }
+
+}
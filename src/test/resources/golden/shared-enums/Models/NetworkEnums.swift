@@ -0,0 +1,14 @@
+//
+// NetworkEnums.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+public enum Status: String, Codable { 
+    case available = "available"
+    case pending = "pending"
+    case sold = "sold"
+}
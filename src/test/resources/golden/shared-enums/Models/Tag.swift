@@ -0,0 +1,22 @@
+//
+// Tag.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+
+public struct Tag: Codable {
+
+    public var id: Int64?
+
+    public var status: Status?
+
+    public init() {
+            }
+
+}
+
+
@@ -0,0 +1,56 @@
+//
+// Pet.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+
+public struct Pet: Codable {
+
+    public enum Status: String, Codable { 
+        case available = "available"
+        case pending = "pending"
+        case sold = "sold"
+    }
+
+    public var id: Int64
+
+    public var name: String
+
+    public var birthday: Date?
+
+    public var updatedAt: Date?
+
+    public var status: Status?
+
+    public var tags: [Tag]?
+
+    public var vaccinations: [Date]?
+
+    public var checkups: [String: Date]?
+
+    public init(id: Int64, name: String, ) {
+        self.id = id
+self.name = name
+    }
+
+    // Encodable protocol methods, properties with format date are encoded as full-date strings
+
+    public func encode(to encoder: Encoder) throws {
+        var container = encoder.container(keyedBy: CodingKeys.self)
+        try container.encode(id, forKey: .id)
+        try container.encode(name, forKey: .name)
+        try container.encodeIfPresent(birthday.map(NetworkCoders.fullDateString), forKey: .birthday)
+        try container.encodeIfPresent(updatedAt, forKey: .updatedAt)
+        try container.encodeIfPresent(status, forKey: .status)
+        try container.encodeIfPresent(tags, forKey: .tags)
+        try container.encodeIfPresent(vaccinations.map { $0.map(NetworkCoders.fullDateString) }, forKey: .vaccinations)
+        try container.encodeIfPresent(checkups.map { $0.mapValues(NetworkCoders.fullDateString) }, forKey: .checkups)
+    }
+
+}
+
+
@@ -0,0 +1,28 @@
+//
+// Tag.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+
+public struct Tag: Codable {
+
+    public enum Status: String, Codable { 
+        case available = "available"
+        case pending = "pending"
+        case sold = "sold"
+    }
+
+    public var id: Int64?
+
+    public var status: Status?
+
+    public init() {
+            }
+
+}
+
+
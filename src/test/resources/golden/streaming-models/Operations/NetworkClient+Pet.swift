@@ -0,0 +1,96 @@
+//
+// NetworkClient+Pet.swift
+//
+// Generated by swagger-codegen
+// https://github.com/swagger-api/swagger-codegen
+//
+
+import Foundation
+
+extension URLRequest {
+
+    static func addPet() -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets", httpMethod: "POST")
+    }
+
+    static func deletePet(petId: Int64) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets/\(URLComponents.percentEncodedPathParameter(petId))", httpMethod: "DELETE")
+    }
+
+    static func getPet(petId: Int64, queryItems: [GetPetQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets/\(URLComponents.percentEncodedPathParameter(petId))", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+    static func listPets(queryItems: [ListPetsQueryItem]) -> URLRequest? {
+        return URLRequest(percentEncodedPath: "/pets", percentEncodedQuery: URLComponents.percentEncodedQuery(queryItems), httpMethod: "GET")
+    }
+
+}
+
+public extension NetworkClient {
+
+    /**
+
+     - parameter body: (body)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func addPet(body: Pet, callbackQueue: DispatchQueue? = nil, success: @escaping (Pet) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.addPet().settingHTTPBody(encodable: body) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter petId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func deletePet(petId: Int64, callbackQueue: DispatchQueue? = nil, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.deletePet(petId: petId) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter petId: (path)  
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func getPet(petId: Int64, queryItems: [GetPetQueryItem], callbackQueue: DispatchQueue? = nil, success: @escaping (Pet) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.getPet(petId: petId, queryItems: queryItems) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+    /**
+
+     - parameter callbackQueue: queue to call the completion handler on, `callbackQueue` of the client if `nil`
+     - parameter completion: completion handler to receive the data and the error objects
+     */
+    public class func listPets(queryItems: [ListPetsQueryItem], callbackQueue: DispatchQueue? = nil, success: @escaping ([Pet]) -> Void, failure: @escaping (Error) -> Void) {
+        if let request = URLRequest.listPets(queryItems: queryItems) {
+            send(request, completionHandler: completionHandler(callbackQueue: callbackQueue, success: success, failure: failure))
+        } else {
+            (callbackQueue ?? self.callbackQueue).async {
+                failure(NetworkError(code: -1, message: "Keine Parameter erhalten."))
+            }
+        }
+    }
+
+}
+
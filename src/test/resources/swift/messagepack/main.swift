@@ -0,0 +1,133 @@
+//
+// Encodes and decodes MessagePack test vectors (https://github.com/msgpack/msgpack/blob/master/spec.md)
+// with the generated NetworkMessagePackEncoder and NetworkMessagePackDecoder, and the fixture model Pet.
+// Prints every mismatch and exits with 1 if there was one, see MessagePackGoldenTest.
+//
+
+import Foundation
+
+var failures = 0
+
+let encoder = NetworkMessagePackEncoder()
+let decoder = NetworkMessagePackDecoder()
+
+func hex(_ bytes: [UInt8]) -> String {
+    return bytes.map { String(format: "%02x", $0) }.joined(separator: " ")
+}
+
+func fail(_ message: String) {
+    print(message)
+    failures += 1
+}
+
+/// Encodes the value and compares the bytes, then decodes the bytes and compares them with the value.
+func check<T: Codable & Equatable>(_ name: String, _ value: T, _ bytes: [UInt8]) {
+    do {
+        let encoded = [UInt8](try encoder.encode(value))
+        if encoded != bytes {
+            fail("\(name): encoded as \(hex(encoded)), expected \(hex(bytes))")
+        }
+        let decoded = try decoder.decode(T.self, from: Data(bytes))
+        if decoded != value {
+            fail("\(name): decoded as \(decoded), expected \(value)")
+        }
+    } catch {
+        fail("\(name): \(error)")
+    }
+}
+
+func string(_ count: Int) -> String {
+    return String(repeating: "a", count: count)
+}
+
+func stringBytes(_ count: Int) -> [UInt8] {
+    return [UInt8](repeating: 0x61, count: count)
+}
+
+// positive and negative fixint, and the first values beyond them
+
+check("positive fixint 0", 0, [0x00])
+check("positive fixint 127", 127, [0x7f])
+check("uint 8 128", 128, [0xcc, 0x80])
+check("uint 16 256", 256, [0xcd, 0x01, 0x00])
+check("negative fixint -1", -1, [0xff])
+check("negative fixint -32", -32, [0xe0])
+check("int 8 -33", -33, [0xd0, 0xdf])
+check("int 16 -129", -129, [0xd1, 0xff, 0x7f])
+check("int64", Int64(1), [0x01])
+
+// fixstr up to 31 bytes, str 8 up to 255 bytes
+
+check("fixstr 0", "", [0xa0])
+check("fixstr 31", string(31), [0xbf] + stringBytes(31))
+check("str 8 32", string(32), [0xd9, 0x20] + stringBytes(32))
+check("str 8 255", string(255), [0xd9, 0xff] + stringBytes(255))
+check("str 16 256", string(256), [0xda, 0x01, 0x00] + stringBytes(256))
+check("str 8 utf-8", "ä" + string(30), [0xd9, 0x20, 0xc3, 0xa4] + stringBytes(30))
+
+// nil
+
+check("nil", Int?.none, [0xc0])
+check("bool", true, [0xc3])
+
+// fixmap up to 15 entries, map 16 from 16 entries; dictionaries have no order, so their keys are checked one by one
+
+let keys = (0..<16).map { String(UnicodeScalar(UInt8(0x61) + UInt8($0))) }
+var map16 = [String: Int]()
+var map16Bytes: [UInt8] = [0xde, 0x00, 0x10]
+for (index, key) in keys.enumerated() {
+    map16[key] = index
+    map16Bytes += [0xa1, UInt8(0x61 + index), UInt8(index)]
+}
+do {
+    let encoded = [UInt8](try encoder.encode(map16))
+    if Array(encoded.prefix(3)) != [0xde, 0x00, 0x10] || encoded.count != map16Bytes.count {
+        fail("map 16: encoded as \(hex(encoded)), expected a map 16 of 16 entries")
+    }
+    if try decoder.decode([String: Int].self, from: Data(encoded)) != map16 {
+        fail("map 16: does not decode what it encoded")
+    }
+    if try decoder.decode([String: Int].self, from: Data(map16Bytes)) != map16 {
+        fail("map 16: decoded \(hex(map16Bytes)) wrongly")
+    }
+    map16.removeValue(forKey: "p")
+    if [UInt8](try encoder.encode(map16)).first != 0x8f {
+        fail("fixmap 15: not encoded as a fixmap")
+    }
+} catch {
+    fail("map 16: \(error)")
+}
+
+// arrays
+
+check("fixarray", [1, 2], [0x92, 0x01, 0x02])
+check("array 16", [Int](repeating: 0, count: 16), [0xdc, 0x00, 0x10] + [UInt8](repeating: 0, count: 16))
+
+// the fixture model, absent optional properties are left out of the map
+
+do {
+    let pet = Pet(id: 1, name: "Rex")
+    let bytes: [UInt8] = [0x82, 0xa2, 0x69, 0x64, 0x01, 0xa4, 0x6e, 0x61, 0x6d, 0x65, 0xa3, 0x52, 0x65, 0x78]
+    let encoded = [UInt8](try encoder.encode(pet))
+    if encoded != bytes {
+        fail("Pet: encoded as \(hex(encoded)), expected \(hex(bytes))")
+    }
+    let decoded = try decoder.decode(Pet.self, from: Data(bytes))
+    if decoded.id != 1 || decoded.name != "Rex" || decoded.tags != nil || decoded.status != nil {
+        fail("Pet: decoded as \(decoded)")
+    }
+    // the decoder accepts the keys in any order, and nil for absent properties
+    let reordered: [UInt8] = [0x83, 0xa4, 0x6e, 0x61, 0x6d, 0x65, 0xa3, 0x52, 0x65, 0x78, 0xa4, 0x74, 0x61, 0x67, 0x73, 0xc0, 0xa2, 0x69, 0x64, 0x01]
+    let decodedReordered = try decoder.decode(Pet.self, from: Data(reordered))
+    if decodedReordered.id != 1 || decodedReordered.name != "Rex" || decodedReordered.tags != nil {
+        fail("Pet: decoded \(hex(reordered)) as \(decodedReordered)")
+    }
+} catch {
+    fail("Pet: \(error)")
+}
+
+if failures > 0 {
+    print("\(failures) MessagePack vectors failed")
+    exit(1)
+}
+print("All MessagePack vectors passed")